@@ -5,13 +5,28 @@ import org.xpfarm.curse.commands.CurseCommand;
 import org.xpfarm.curse.listeners.PlayerListener;
 import org.xpfarm.curse.listeners.PotionListener;
 import org.xpfarm.curse.listeners.CursedBookListener;
+import org.xpfarm.curse.listeners.CurseMobListener;
+import org.xpfarm.curse.listeners.RewardVaultListener;
+import org.xpfarm.curse.listeners.RewardChestListener;
+import org.xpfarm.curse.listeners.FallingBlockListener;
+import org.xpfarm.curse.listeners.ArenaRestoreListener;
 import org.xpfarm.curse.managers.PlagueManager;
 import org.xpfarm.curse.managers.LeaderboardManager;
 import org.xpfarm.curse.managers.ConfigManager;
 import org.xpfarm.curse.managers.CooldownManager;
 import org.xpfarm.curse.managers.HUDManager;
-import org.xpfarm.curse.managers.CursedBookManager;
+import org.xpfarm.curse.managers.SessionJournalManager;
+import org.xpfarm.curse.managers.CurseMobManager;
+import org.xpfarm.curse.managers.ItemPrototypeManager;
+import org.xpfarm.curse.managers.WavePlanManager;
+import org.xpfarm.curse.managers.LootTableManager;
+import org.xpfarm.curse.managers.RewardVaultManager;
+import org.xpfarm.curse.managers.RewardChestManager;
+import org.xpfarm.curse.managers.EffectManager;
+import org.xpfarm.curse.managers.ArenaVisibilityManager;
+import org.xpfarm.curse.managers.ArenaRestoreManager;
 import org.xpfarm.curse.mechanics.CursedMechanicManager;
+import org.xpfarm.curse.utils.EntityResolver;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -24,8 +39,17 @@ public class CursePlugin extends JavaPlugin {
     private ConfigManager configManager;
     private CooldownManager cooldownManager;
     private HUDManager hudManager;
-    private CursedBookManager cursedBookManager;
     private CursedMechanicManager cursedMechanicManager;
+    private SessionJournalManager sessionJournalManager;
+    private CurseMobManager curseMobManager;
+    private ItemPrototypeManager itemPrototypeManager;
+    private WavePlanManager wavePlanManager;
+    private LootTableManager lootTableManager;
+    private RewardVaultManager rewardVaultManager;
+    private RewardChestManager rewardChestManager;
+    private EffectManager effectManager;
+    private ArenaVisibilityManager arenaVisibilityManager;
+    private ArenaRestoreManager arenaRestoreManager;
 
     @Override
     public void onEnable() {
@@ -35,10 +59,19 @@ public class CursePlugin extends JavaPlugin {
         configManager = new ConfigManager(this);
         cooldownManager = new CooldownManager(this);
         hudManager = new HUDManager(this);
-        cursedBookManager = new CursedBookManager(this);
+        effectManager = new EffectManager(this);
+        arenaVisibilityManager = new ArenaVisibilityManager(this);
+        arenaRestoreManager = new ArenaRestoreManager(this);
+        itemPrototypeManager = new ItemPrototypeManager(this);
+        wavePlanManager = new WavePlanManager(this);
+        lootTableManager = new LootTableManager(this);
+        rewardVaultManager = new RewardVaultManager(this);
+        rewardChestManager = new RewardChestManager(this);
         cursedMechanicManager = new CursedMechanicManager(this);
         plagueManager = new PlagueManager(this);
         leaderboardManager = new LeaderboardManager(this);
+        sessionJournalManager = new SessionJournalManager(this);
+        curseMobManager = new CurseMobManager(this);
 
         // Register commands
         getCommand("curse").setExecutor(new CurseCommand(this));
@@ -47,13 +80,43 @@ public class CursePlugin extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new PlayerListener(this), this);
         getServer().getPluginManager().registerEvents(new PotionListener(this), this);
         getServer().getPluginManager().registerEvents(new CursedBookListener(this), this);
+        getServer().getPluginManager().registerEvents(new CurseMobListener(this), this);
+        getServer().getPluginManager().registerEvents(new RewardVaultListener(this), this);
+        getServer().getPluginManager().registerEvents(new RewardChestListener(this), this);
+        getServer().getPluginManager().registerEvents(new FallingBlockListener(this), this);
+        getServer().getPluginManager().registerEvents(new ArenaRestoreListener(this), this);
 
         // Load configuration
         configManager.loadConfig();
 
+        // Build the book and potion prototypes registered by the managers above
+        itemPrototypeManager.rebuild();
+
+        // Compile the wave plans and loot tables (loot resolves the prototypes built above)
+        wavePlanManager.loadPlans();
+        lootTableManager.loadTables();
+
+        // Pick up placed reward chests and start expiring them
+        rewardChestManager.start();
+
+        // Restore persisted cooldowns
+        cooldownManager.loadCooldowns();
+
+        // Rewards earned by players who were offline
+        rewardVaultManager.loadPending();
+
         // Initialize leaderboard
         leaderboardManager.loadLeaderboard();
 
+        // Resume sessions interrupted by the last shutdown or crash
+        sessionJournalManager.loadJournal();
+
+        // Restore arenas whose sessions ended or will not resume
+        arenaRestoreManager.start();
+
+        // Reap curse mobs orphaned in chunks that were loaded before the plugin
+        getServer().getScheduler().runTask(this, curseMobManager::sweepLoadedWorlds);
+
         getLogger().info("The Curse plugin has been enabled!");
 
         // Send startup message to console
@@ -72,9 +135,29 @@ public class CursePlugin extends JavaPlugin {
             hudManager.stopAllHUDs();
         }
 
-        // Stop all active plagues
-        if (plagueManager != null) {
-            plagueManager.stopAllPlagues();
+        // Drop running particle effects
+        if (effectManager != null) {
+            effectManager.clear();
+        }
+
+        // Write back open reward vaults and rewards waiting for offline players
+        if (rewardVaultManager != null) {
+            rewardVaultManager.closeAll();
+        }
+
+        // Stop expiring reward chests; the registry is kept on each world
+        if (rewardChestManager != null) {
+            rewardChestManager.stop();
+        }
+
+        // Stop restoring arenas; unfinished ones are on disk
+        if (arenaRestoreManager != null) {
+            arenaRestoreManager.stop();
+        }
+
+        // Checkpoint and suspend all active sessions so they resume on the next start
+        if (sessionJournalManager != null) {
+            sessionJournalManager.shutdown();
         }
 
         // Save leaderboard
@@ -82,6 +165,14 @@ public class CursePlugin extends JavaPlugin {
             leaderboardManager.saveLeaderboard();
         }
 
+        // Write pending cooldowns
+        if (cooldownManager != null) {
+            cooldownManager.saveCooldowns();
+        }
+
+        // Release any entity handles cached for the current tick
+        EntityResolver.clear();
+
         getLogger().info("The Curse plugin has been disabled!");
 
         // Send shutdown message to console
@@ -114,18 +205,61 @@ public class CursePlugin extends JavaPlugin {
         return hudManager;
     }
 
-    public CursedBookManager getCursedBookManager() {
-        return cursedBookManager;
-    }
-
     public CursedMechanicManager getCursedMechanicManager() {
         return cursedMechanicManager;
     }
 
+    public SessionJournalManager getSessionJournalManager() {
+        return sessionJournalManager;
+    }
+
+    public CurseMobManager getCurseMobManager() {
+        return curseMobManager;
+    }
+
+    public ItemPrototypeManager getItemPrototypeManager() {
+        return itemPrototypeManager;
+    }
+
+    public WavePlanManager getWavePlanManager() {
+        return wavePlanManager;
+    }
+
+    public LootTableManager getLootTableManager() {
+        return lootTableManager;
+    }
+
+    public RewardVaultManager getRewardVaultManager() {
+        return rewardVaultManager;
+    }
+
+    public RewardChestManager getRewardChestManager() {
+        return rewardChestManager;
+    }
+
+    public EffectManager getEffectManager() {
+        return effectManager;
+    }
+
+    public ArenaVisibilityManager getArenaVisibilityManager() {
+        return arenaVisibilityManager;
+    }
+
+    public ArenaRestoreManager getArenaRestoreManager() {
+        return arenaRestoreManager;
+    }
+
     public void reloadPlugin() {
         // Reload configuration
         configManager.loadConfig();
 
+        // Rebuild item prototypes
+        itemPrototypeManager.rebuild();
+
+        // Recompile wave plans and loot tables
+        wavePlanManager.loadPlans();
+        lootTableManager.loadTables();
+
         // Reload leaderboard
         leaderboardManager.loadLeaderboard();
 
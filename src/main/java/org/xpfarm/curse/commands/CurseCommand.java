@@ -6,6 +6,7 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.models.MobOwner;
 import org.xpfarm.curse.utils.MessageUtil;
 import org.xpfarm.curse.utils.PlayerLookup;
 
@@ -47,6 +48,10 @@ public class CurseCommand implements CommandExecutor, TabCompleter {
             case "leaderboard":
             case "lb":
                 return handleLeaderboard(sender, args);
+            case "rewards":
+                return handleRewards(sender);
+            case "spectate":
+                return handleSpectate(sender, args);
             case "reload":
                 return handleReload(sender);
             case "help":
@@ -72,8 +77,8 @@ public class CurseCommand implements CommandExecutor, TabCompleter {
                 return true;
             }
 
-            // Check if target already has an active plague
-            if (plugin.getPlagueManager().hasActivePlague(target)) {
+            // Check if target already has an active curse
+            if (plugin.getCursedMechanicManager().hasActiveMechanic(target)) {
                 MessageUtil.sendMessage(sender, Component.text(target.getName() + " already has an active curse!", NamedTextColor.RED));
                 return true;
             }
@@ -95,8 +100,8 @@ public class CurseCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
-        // Check if player already has an active plague
-        if (plugin.getPlagueManager().hasActivePlague(player)) {
+        // Check if player already has an active curse
+        if (plugin.getCursedMechanicManager().hasActiveMechanic(player)) {
             MessageUtil.sendMessage(sender, Component.text("You already have an active curse!", NamedTextColor.RED));
             return true;
         }
@@ -283,6 +288,65 @@ public class CurseCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    private boolean handleRewards(CommandSender sender) {
+        if (!sender.hasPermission("curse.use")) {
+            MessageUtil.sendMessage(sender, Component.text("You don't have permission to open the reward vault!", NamedTextColor.RED));
+            return true;
+        }
+
+        if (!(sender instanceof Player player)) {
+            MessageUtil.sendMessage(sender, Component.text("Only players have a reward vault!", NamedTextColor.RED));
+            return true;
+        }
+
+        plugin.getRewardVaultManager().open(player);
+        return true;
+    }
+
+    private boolean handleSpectate(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("curse.use")) {
+            MessageUtil.sendMessage(sender, Component.text("You don't have permission to spectate curses!", NamedTextColor.RED));
+            return true;
+        }
+
+        if (!(sender instanceof Player player)) {
+            MessageUtil.sendMessage(sender, Component.text("Only players can spectate a curse!", NamedTextColor.RED));
+            return true;
+        }
+
+        // No target: stop watching
+        if (args.length < 2) {
+            if (plugin.getArenaVisibilityManager().stopSpectating(player)) {
+                MessageUtil.sendMessage(sender, Component.text("You stopped spectating.", NamedTextColor.GREEN));
+            } else {
+                MessageUtil.sendMessage(sender, Component.text("Usage: /curse spectate <player>", NamedTextColor.YELLOW));
+            }
+            return true;
+        }
+
+        if (!plugin.getArenaVisibilityManager().isEnabled()) {
+            MessageUtil.sendMessage(sender, Component.text("Curses are visible to everyone on this server.", NamedTextColor.YELLOW));
+            return true;
+        }
+
+        Player target = PlayerLookup.resolveAllowingPartial(args[1]).orElse(null);
+        if (target == null) {
+            MessageUtil.sendMessage(sender, Component.text(
+                PlayerLookup.noSuchPlayerMessage(args[1], PlayerLookup.onlineNames()), NamedTextColor.RED));
+            return true;
+        }
+
+        MobOwner session = plugin.getCurseMobManager().getSessionOf(target.getUniqueId());
+        if (session == null) {
+            MessageUtil.sendMessage(sender, Component.text(target.getName() + " doesn't have an active curse!", NamedTextColor.RED));
+            return true;
+        }
+
+        plugin.getArenaVisibilityManager().spectate(player, session);
+        MessageUtil.sendMessage(sender, Component.text("You are now spectating " + target.getName() + "'s curse. Use /curse spectate to stop.", NamedTextColor.GREEN));
+        return true;
+    }
+
     private boolean handleBook(CommandSender sender, String[] args) {
         if (!sender.hasPermission("curse.admin")) {
             MessageUtil.sendMessage(sender, Component.text("You don't have permission to give cursed books!", NamedTextColor.RED));
@@ -338,17 +402,9 @@ public class CurseCommand implements CommandExecutor, TabCompleter {
         // Get the mechanic and create the book
         var mechanic = plugin.getCursedMechanicManager().getMechanic(mechanicId);
         if (mechanic == null) {
-            // Fallback to legacy book for ZP25
-            if ("ZP25".equals(mechanicId)) {
-                target.getInventory().addItem(plugin.getCursedBookManager().createCursedBook());
-                MessageUtil.sendMessage(target, Component.text("You have received a ", NamedTextColor.GRAY)
-                    .append(Component.text("ZP25", NamedTextColor.DARK_RED))
-                    .append(Component.text(" cursed book!", NamedTextColor.GRAY)));
-            } else {
-                MessageUtil.sendMessage(sender, Component.text("Unknown mechanic: " + mechanicId, NamedTextColor.RED));
-                MessageUtil.sendMessage(sender, Component.text("Available mechanics: " + String.join(", ", plugin.getCursedMechanicManager().getMechanicIds()), NamedTextColor.GRAY));
-                return true;
-            }
+            MessageUtil.sendMessage(sender, Component.text("Unknown mechanic: " + mechanicId, NamedTextColor.RED));
+            MessageUtil.sendMessage(sender, Component.text("Available mechanics: " + String.join(", ", plugin.getCursedMechanicManager().getMechanicIds()), NamedTextColor.GRAY));
+            return true;
         } else {
             // Give the mechanic-specific book
             target.getInventory().addItem(mechanic.createCursedBook());
@@ -389,6 +445,10 @@ public class CurseCommand implements CommandExecutor, TabCompleter {
             .append(Component.text(" - Give a cursed book (admin)", NamedTextColor.GRAY)));
         MessageUtil.sendMessage(sender, Component.text("/curse leaderboard", NamedTextColor.YELLOW)
             .append(Component.text(" - View curse statistics", NamedTextColor.GRAY)));
+        MessageUtil.sendMessage(sender, Component.text("/curse rewards", NamedTextColor.YELLOW)
+            .append(Component.text(" - Claim your curse rewards", NamedTextColor.GRAY)));
+        MessageUtil.sendMessage(sender, Component.text("/curse spectate [player]", NamedTextColor.YELLOW)
+            .append(Component.text(" - Watch a player's curse, or stop watching", NamedTextColor.GRAY)));
         MessageUtil.sendMessage(sender, Component.text("/curse reload", NamedTextColor.YELLOW)
             .append(Component.text(" - Reload plugin configuration (admin)", NamedTextColor.GRAY)));
         MessageUtil.sendMessage(sender, Component.text("/curse help", NamedTextColor.YELLOW)
@@ -416,7 +476,7 @@ public class CurseCommand implements CommandExecutor, TabCompleter {
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         if (args.length == 1) {
             List<String> completions = new ArrayList<>();
-            List<String> subCommands = Arrays.asList("start", "stop", "reset", "trigger", "book", "leaderboard", "reload", "help");
+            List<String> subCommands = Arrays.asList("start", "stop", "reset", "trigger", "book", "leaderboard", "rewards", "spectate", "reload", "help");
 
             for (String subCommand : subCommands) {
                 if (subCommand.toLowerCase().startsWith(args[0].toLowerCase())) {
@@ -463,7 +523,8 @@ public class CurseCommand implements CommandExecutor, TabCompleter {
                 return completions;
             }
 
-            if (subCommand.equals("start") || subCommand.equals("stop") || subCommand.equals("reset")) {
+            if (subCommand.equals("start") || subCommand.equals("stop") || subCommand.equals("reset")
+                || subCommand.equals("spectate")) {
                 // Tab complete player names for admin commands
                 List<String> completions = new ArrayList<>();
                 String partial = args[1].toLowerCase();
@@ -0,0 +1,37 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.listeners;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.xpfarm.curse.CursePlugin;
+
+/**
+ * Stops a curse explosion dropping the blocks it breaks when its arena will be restored,
+ * so the blocks are not handed out twice.
+ */
+public class ArenaRestoreListener implements Listener {
+
+    private final CursePlugin plugin;
+
+    public ArenaRestoreListener(CursePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    // An explosion created at a location with no source entity fires this event
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        if (plugin.getArenaRestoreManager().isSuppressingDrops()) {
+            event.setYield(0.0f);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.listeners;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.utils.EntityResolver;
+
+/**
+ * Feeds entity lifecycle events to the {@link org.xpfarm.curse.managers.CurseMobManager},
+ * and drops the {@link EntityResolver}'s handles as each tick ends.
+ */
+public class CurseMobListener implements Listener {
+
+    private final CursePlugin plugin;
+
+    public CurseMobListener(CursePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        plugin.getCurseMobManager().onEntitiesLoaded(event.getEntities());
+    }
+
+    @EventHandler
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        plugin.getCurseMobManager().onEntitiesUnloaded(event.getEntities());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        plugin.getCurseMobManager().untrackMob(event.getEntity());
+    }
+
+    @EventHandler
+    public void onEntityRemove(EntityRemoveEvent event) {
+        plugin.getCurseMobManager().onEntityRemoved(event.getEntity(), event.getCause());
+    }
+
+    @EventHandler
+    public void onTickEnd(ServerTickEndEvent event) {
+        EntityResolver.clear();
+    }
+}
@@ -8,6 +8,7 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.block.Action;
 import org.bukkit.inventory.ItemStack;
 import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.mechanics.CursedMechanic;
 
 public class CursedBookListener implements Listener {
 
@@ -27,43 +28,17 @@ public class CursedBookListener implements Listener {
         Player player = event.getPlayer();
         ItemStack item = event.getItem();
 
-        // Check if player is holding an item
-        if (item == null) {
-            return;
-        }
-
-        // Check if the item is a cursed book (either old or new mechanic)
-        boolean isLegacyBook = plugin.getCursedBookManager().isCursedBook(item);
-        boolean isMechanicBook = false;
-
-        // Check if it's a book for any mechanic
-        for (String mechanicId : plugin.getCursedMechanicManager().getMechanicIds()) {
-            var mechanic = plugin.getCursedMechanicManager().getMechanic(mechanicId);
-            if (mechanic != null) {
-                ItemStack mechanicBook = mechanic.createCursedBook();
-                if (mechanicBook != null && mechanicBook.hasItemMeta() && item.hasItemMeta()) {
-                    if (mechanicBook.getItemMeta().getPersistentDataContainer()
-                            .equals(item.getItemMeta().getPersistentDataContainer())) {
-                        isMechanicBook = true;
-                        break;
-                    }
-                }
-            }
-        }
-
-        if (!isLegacyBook && !isMechanicBook) {
+        // One marker key read; anything that is not a cursed book exits here
+        CursedMechanic mechanic = plugin.getCursedMechanicManager().getBookMechanic(item);
+        if (mechanic == null) {
             return;
         }
 
         // Cancel the event to prevent other interactions
         event.setCancelled(true);
 
-        // Try to activate using new mechanics system first
-        if (plugin.getCursedMechanicManager().activateMechanic(player, item)) {
-            return; // Successfully activated via new system
+        if (mechanic.isEnabled()) {
+            mechanic.activate(player, item);
         }
-
-        // Fallback to legacy cursed book system
-        plugin.getCursedBookManager().activateCursedBook(player, item);
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.listeners;
+
+import org.bukkit.entity.FallingBlock;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.mechanics.CursedSpawnMechanic;
+
+/**
+ * Tells CS25P when its obsidian block lands or is lost, so the crater explodes on the
+ * impact tick without any session polling the block.
+ */
+public class FallingBlockListener implements Listener {
+
+    private final CursePlugin plugin;
+
+    public FallingBlockListener(CursePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFallingBlockLand(EntityChangeBlockEvent event) {
+        if (!(event.getEntity() instanceof FallingBlock block)) return;
+
+        CursedSpawnMechanic mechanic = getMechanic();
+        if (mechanic != null) {
+            mechanic.onFallingBlockLanded(block.getUniqueId(), event.getBlock().getLocation());
+        }
+    }
+
+    @EventHandler
+    public void onFallingBlockRemove(EntityRemoveEvent event) {
+        if (!(event.getEntity() instanceof FallingBlock block)) return;
+
+        CursedSpawnMechanic mechanic = getMechanic();
+        if (mechanic != null) {
+            mechanic.onFallingBlockRemoved(block.getUniqueId(), block.getLocation());
+        }
+    }
+
+    private CursedSpawnMechanic getMechanic() {
+        return plugin.getCursedMechanicManager().getMechanic(CursedSpawnMechanic.MECHANIC_ID)
+            instanceof CursedSpawnMechanic mechanic ? mechanic : null;
+    }
+}
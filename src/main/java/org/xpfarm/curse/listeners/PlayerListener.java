@@ -1,5 +1,6 @@
 package org.xpfarm.curse.listeners;
 
+import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -10,26 +11,31 @@ import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataType;
 import org.xpfarm.curse.CursePlugin;
-import org.xpfarm.curse.models.Plague;
+import org.xpfarm.curse.managers.CurseMobManager;
+import org.xpfarm.curse.mechanics.CursedMechanic;
 import org.xpfarm.curse.mechanics.CursedSpawnMechanic;
+import org.xpfarm.curse.models.CurseSession;
+import org.xpfarm.curse.models.MobOwner;
+import org.xpfarm.curse.models.Plague;
 import org.xpfarm.curse.utils.MessageUtil;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 public class PlayerListener implements Listener {
 
     private final CursePlugin plugin;
-    private final Map<UUID, Long> lastQuitTime;
+
+    // Set on the player's own data when they quit mid-curse, so the rejoin penalty
+    // survives a restart and costs nothing to hold for offline players
+    private final NamespacedKey quitPenaltyKey;
 
     public PlayerListener(CursePlugin plugin) {
         this.plugin = plugin;
-        this.lastQuitTime = new HashMap<>();
+        this.quitPenaltyKey = new NamespacedKey(plugin, "curse_quit_penalty");
     }
 
     @EventHandler
@@ -43,6 +49,8 @@ public class PlayerListener implements Listener {
 
             MessageUtil.sendMessage(player, Component.text("Your curse has been reset due to death!", NamedTextColor.RED));
         }
+
+        endCursedSpawn(player);
     }
 
     @EventHandler
@@ -52,26 +60,52 @@ public class PlayerListener implements Listener {
         // Stop HUD for quitting player
         plugin.getHUDManager().stopHUD(player);
 
+        // Stop spectating; who they were shown is dropped with them
+        plugin.getArenaVisibilityManager().onQuit(player);
+
         // Track quit time if player has active curse
         if (plugin.getPlagueManager().hasActivePlague(player)) {
-            lastQuitTime.put(player.getUniqueId(), System.currentTimeMillis());
+            player.getPersistentDataContainer().set(quitPenaltyKey, PersistentDataType.LONG, System.currentTimeMillis());
             // End the plague but don't set cooldown yet (wait for rejoin)
             plugin.getPlagueManager().stopPlague(player);
         }
+
+        endCursedSpawn(player);
+    }
+
+    /**
+     * A cursed spawn is lost once its player dies or leaves
+     */
+    private void endCursedSpawn(Player player) {
+        CursedMechanic cursedSpawn = plugin.getCursedMechanicManager().getMechanic(CursedSpawnMechanic.MECHANIC_ID);
+        if (cursedSpawn != null && cursedSpawn.hasActiveMechanic(player)) {
+            cursedSpawn.endMechanic(player);
+        }
     }
 
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
-        UUID playerId = player.getUniqueId();
 
         // Check if player quit with active curse
-        if (lastQuitTime.containsKey(playerId)) {
+        if (player.getPersistentDataContainer().has(quitPenaltyKey, PersistentDataType.LONG)) {
             // Set cooldown for rejoining after quitting with curse
             plugin.getCooldownManager().setCooldown(player);
-            lastQuitTime.remove(playerId);
+            player.getPersistentDataContainer().remove(quitPenaltyKey);
+            plugin.getSessionJournalManager().discardPending(player.getUniqueId());
 
             MessageUtil.sendMessage(player, Component.text("Your curse was reset due to leaving the server. You must wait before starting another one.", NamedTextColor.YELLOW));
+        } else {
+            // Pick up a session interrupted by a restart or crash
+            plugin.getSessionJournalManager().resumePending(player);
+        }
+
+        // Hand over rewards earned while offline
+        plugin.getRewardVaultManager().deliverPending(player);
+
+        // Tag curse potions handed out before potions were tagged
+        for (ItemStack item : player.getInventory().getContents()) {
+            plugin.getPlagueManager().upgradeLegacyPotion(item);
         }
 
         // Check if player should see HUD from nearby active plagues
@@ -93,43 +127,28 @@ public class PlayerListener implements Listener {
         Entity entity = event.getEntity();
         Player killer = event.getEntity().getKiller();
 
-        // Check if this entity is part of any active plague
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            Plague plague = plugin.getPlagueManager().getPlague(player);
-            if (plague != null && plague.getActiveMobs().contains(entity)) {
-                // This mob was part of the plague
-
-                // Only give credit if the cursed player killed it or if no specific killer
-                if (killer == null || killer.getUniqueId().equals(player.getUniqueId())) {
-                    plague.onMobKilled(entity);
-
-                    // Give XP bonus only to the cursed player
-                    if (killer != null && killer.getUniqueId().equals(player.getUniqueId())) {
-                        event.setDroppedExp(event.getDroppedExp() * 2); // Double XP
-                    }
-                } else {
-                    // Someone else killed the curse mob - remove it from tracking but no credit
-                    plague.getActiveMobs().remove(entity);
-                }
-
-                break;
-            }
+        // Check if this entity belongs to an active curse session of any mechanic
+        MobOwner owner = plugin.getCurseMobManager().getOwner(entity);
+        if (!(owner instanceof CurseSession session)) {
+            return;
         }
 
-        // Check if this entity is part of any active cursed spawn (CS25P)
-        var cursedMechanicManager = plugin.getCursedMechanicManager();
-        if (cursedMechanicManager != null) {
-            var cs25pMechanic = cursedMechanicManager.getMechanic("CS25P");
-            if (cs25pMechanic instanceof CursedSpawnMechanic cursedSpawnMechanic) {
-                // Check if the entity belongs to any CS25P session
-                if (cursedSpawnMechanic.handleMobDeath(entity, killer)) {
-                    // Give XP bonus to cursed player if they killed it
-                    if (killer != null) {
-                        event.setDroppedExp(event.getDroppedExp() * 2); // Double XP
-                    }
-                }
+        boolean credited = session.isCredited(killer);
+        // Give XP bonus only to the cursed player
+        int experience = credited && killer != null ? event.getDroppedExp() * 2 : event.getDroppedExp();
+
+        if (plugin.getConfigManager().getMobDropPolicy() == CurseMobManager.DropPolicy.POOL) {
+            // Pooled before the death is handled, which may clear the wave and pay out
+            if (credited) {
+                session.getRewardPool().add(experience, event.getDrops());
             }
+            event.getDrops().clear();
+            event.setDroppedExp(0);
+        } else {
+            event.setDroppedExp(experience);
         }
+
+        session.handleMobDeath(entity, killer);
     }
 
     @EventHandler(priority = EventPriority.NORMAL)
@@ -1,81 +1,71 @@
 package org.xpfarm.curse.listeners;
 
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerItemConsumeEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.PotionMeta;
-import org.bukkit.potion.PotionEffect;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffectType;
 import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.managers.PlagueManager;
 import org.xpfarm.curse.models.Plague;
 import org.xpfarm.curse.utils.MessageUtil;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
 public class PotionListener implements Listener {
 
     private final CursePlugin plugin;
+    private final NamespacedKey potionKey;
+    private final Map<String, BiConsumer<Player, PlayerItemConsumeEvent>> handlers;
 
     public PotionListener(CursePlugin plugin) {
         this.plugin = plugin;
+        this.potionKey = plugin.getPlagueManager().getPotionKey();
+
+        // Potion ID, as tagged by PlagueManager -> handler
+        this.handlers = new HashMap<>();
+        handlers.put(PlagueManager.CURSE_TRIGGER_ID, this::handleBadOmenPotion);
+        handlers.put(PlagueManager.ANTIDOTE_ID, this::handleAntidotePotion);
+        handlers.put(PlagueManager.UNDO_ID, this::handleUndoPotion);
     }
 
     @EventHandler
     public void onPlayerItemConsume(PlayerItemConsumeEvent event) {
-        Player player = event.getPlayer();
         ItemStack item = event.getItem();
 
         if (item.getType() != Material.POTION) {
             return;
         }
 
-        PotionMeta meta = (PotionMeta) item.getItemMeta();
-        if (meta == null) {
-            return;
-        }
-
-        // Check for Bad Omen effect or custom curse trigger potion
-        if (meta.hasDisplayName()) {
-            String displayName = meta.getDisplayName(); // Use legacy method for simplicity
-
-            if (displayName != null && (displayName.contains("Bad Omen") || displayName.contains("Curse Trigger"))) {
-                handleBadOmenPotion(player, event);
+        // Curse potions are identified by their tag; names can be forged on an anvil
+        String potionId = item.getPersistentDataContainer().get(potionKey, PersistentDataType.STRING);
+        if (potionId == null) {
+            // Handed out before potions were tagged
+            potionId = plugin.getPlagueManager().upgradeLegacyPotion(item);
+            if (potionId == null) {
                 return;
             }
         }
 
-        // Also check if the potion has bad omen effect
-        if (meta.hasCustomEffects()) {
-            for (PotionEffect effect : meta.getCustomEffects()) {
-                if (effect.getType().equals(PotionEffectType.BAD_OMEN)) {
-                    handleBadOmenPotion(player, event);
-                    return;
-                }
-            }
-        }
-
-        // Check for custom curse potions
-        if (meta.hasDisplayName()) {
-            String displayName = meta.getDisplayName(); // Use legacy method for simplicity
-
-            if (displayName != null) {
-                if (displayName.contains("Curse Antidote")) {
-                    handleAntidotePotion(player, event);
-                } else if (displayName.contains("Undo Potion")) {
-                    handleUndoPotion(player, event);
-                }
-            }
+        BiConsumer<Player, PlayerItemConsumeEvent> handler = handlers.get(potionId);
+        if (handler != null) {
+            handler.accept(event.getPlayer(), event);
         }
     }
 
     private void handleBadOmenPotion(Player player, PlayerItemConsumeEvent event) {
-        // Check if player already has active plague
-        if (plugin.getPlagueManager().hasActivePlague(player)) {
+        // Check if player already has an active curse
+        if (plugin.getCursedMechanicManager().hasActiveMechanic(player)) {
             MessageUtil.sendMessage(player, Component.text("You already have an active curse!", NamedTextColor.RED));
             event.setCancelled(true);
             return;
@@ -0,0 +1,64 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.listeners;
+
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.Chest;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.xpfarm.curse.CursePlugin;
+
+/**
+ * Feeds chest and world events to the {@link org.xpfarm.curse.managers.RewardChestManager}:
+ * a reward chest is removed once it is emptied and forgotten if it is broken.
+ */
+public class RewardChestListener implements Listener {
+
+    private final CursePlugin plugin;
+
+    public RewardChestListener(CursePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        if (!(event.getInventory().getHolder(false) instanceof Chest chest)) return;
+        if (!event.getInventory().isEmpty()) return;
+
+        Block block = chest.getBlock();
+        if (plugin.getRewardChestManager().isTracked(block)) {
+            plugin.getRewardChestManager().remove(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        Block block = event.getBlock();
+        if (block.getType() == Material.CHEST) {
+            plugin.getRewardChestManager().forget(block);
+        }
+    }
+
+    @EventHandler
+    public void onWorldLoad(WorldLoadEvent event) {
+        plugin.getRewardChestManager().loadWorld(event.getWorld());
+    }
+
+    @EventHandler
+    public void onWorldUnload(WorldUnloadEvent event) {
+        plugin.getRewardChestManager().unloadWorld(event.getWorld());
+    }
+}
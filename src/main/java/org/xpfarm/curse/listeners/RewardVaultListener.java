@@ -0,0 +1,76 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.listeners;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.inventory.Inventory;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.models.RewardVault;
+
+/**
+ * Keeps reward vaults take-only, and reports every take and close to the
+ * {@link org.xpfarm.curse.managers.RewardVaultManager} so it can write them back.
+ */
+public class RewardVaultListener implements Listener {
+
+    private final CursePlugin plugin;
+
+    public RewardVaultListener(CursePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        Inventory top = event.getView().getTopInventory();
+        if (!(top.getHolder(false) instanceof RewardVault vault)) return;
+
+        boolean inVault = top.equals(event.getClickedInventory());
+        boolean allowed = switch (event.getAction()) {
+            // Taking from the vault
+            case PICKUP_ALL, PICKUP_HALF, PICKUP_ONE, PICKUP_SOME, DROP_ALL_SLOT, DROP_ONE_SLOT -> true;
+            // Shift-click moves out of whichever inventory was clicked
+            case MOVE_TO_OTHER_INVENTORY -> inVault;
+            // Anything else in the player's own inventory is fine
+            case PLACE_ALL, PLACE_ONE, PLACE_SOME, SWAP_WITH_CURSOR, HOTBAR_SWAP -> !inVault;
+            case NOTHING, CLONE_STACK, COLLECT_TO_CURSOR, DROP_ALL_CURSOR, DROP_ONE_CURSOR -> true;
+            default -> false;
+        };
+        if (!allowed) {
+            event.setCancelled(true);
+        } else {
+            plugin.getRewardVaultManager().markChanged(vault);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        Inventory top = event.getView().getTopInventory();
+        if (!(top.getHolder(false) instanceof RewardVault)) return;
+
+        for (int slot : event.getRawSlots()) {
+            if (slot < top.getSize()) {
+                event.setCancelled(true);
+                return;
+            }
+        }
+    }
+
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        if (event.getInventory().getHolder(false) instanceof RewardVault vault) {
+            plugin.getRewardVaultManager().close(vault);
+        }
+    }
+}
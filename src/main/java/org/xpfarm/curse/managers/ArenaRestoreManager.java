@@ -0,0 +1,463 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.managers;
+
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.models.ArenaSnapshot;
+import org.xpfarm.curse.models.MobOwner;
+import org.xpfarm.curse.utils.BlockKeys;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Puts back the terrain a curse destroys.
+ *
+ * <p>Before a destructive step, such as the CS25P explosion, the session's arena is
+ * captured: its chunks are snapshotted on the main thread and the box is copied into a
+ * palette-compressed {@link ArenaSnapshot} off it, then written to {@code arenas/} so it
+ * survives a restart. Blocks the step breaks drop nothing, as restoring them would hand
+ * them out twice.
+ *
+ * <p>A slow sweep watches each held arena. When it first finds the session over (neither
+ * live nor waiting to resume), it captures the box again as the curse left it. Once the
+ * session has been over for {@code arena.restoreDelaySeconds} and no player is standing
+ * in or next to the box, the arena is queued, and the queue is worked through
+ * {@code arena.restoreBlocksPerTick} blocks per tick. A block is only set back, without
+ * physics and bottom layer first, if it still is as the curse left it: anything a player
+ * built or broke since is kept. A restore pauses while a player is in or next to the box.
+ * Tracked reward chests are left alone while they are there; the arena is held until
+ * they are gone and each one's block is then set back as well. A block in an unloaded
+ * chunk has its chunk loaded asynchronously first.
+ */
+public class ArenaRestoreManager {
+
+    private static final long SWEEP_INTERVAL_TICKS = 100L; // 5 seconds
+
+    /** Blocks around the box a player counts as standing in it, so nothing is set under or beside them. */
+    private static final int OCCUPIED_MARGIN = 2;
+
+    private final CursePlugin plugin;
+    private final File arenaFolder;
+    // Held arenas by the session that changed them
+    private final Map<UUID, HeldArena> arenas;
+    private final ArrayDeque<RestoreJob> restoreQueue;
+    private BukkitTask sweepTask;
+    private BukkitTask restoreTask;
+    private boolean suppressingDrops;
+
+    private static final class HeldArena {
+        private ArenaSnapshot snapshot;
+        private long orphanedAt;
+        private boolean capturing;
+        private boolean queued;
+        // Indices of reward chests the restore left alone, set back once they are gone
+        private List<Integer> awaitingChests = List.of();
+
+        private HeldArena(ArenaSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+
+    private static final class RestoreJob {
+        private final ArenaSnapshot snapshot;
+        private int cursor;
+        private int restored;
+        private final List<Integer> chests = new ArrayList<>();
+        private int checkedTick = -1;
+        private boolean occupied;
+        private volatile boolean loadingChunk;
+
+        private RestoreJob(ArenaSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+
+    public ArenaRestoreManager(CursePlugin plugin) {
+        this.plugin = plugin;
+        this.arenaFolder = new File(plugin.getDataFolder(), "arenas");
+        this.arenas = new HashMap<>();
+        this.restoreQueue = new ArrayDeque<>();
+    }
+
+    public boolean isEnabled() {
+        return plugin.getConfigManager().isArenaRestoreEnabled();
+    }
+
+    /**
+     * Loads the arenas left by the previous run and starts the sweep. Call after the
+     * session journal is loaded, so arenas of sessions about to resume are held.
+     */
+    public void start() {
+        File[] files = arenaFolder.listFiles((dir, name) -> name.endsWith(".arena"));
+        if (files != null) {
+            for (File file : files) {
+                ArenaSnapshot snapshot = read(file);
+                if (snapshot != null) {
+                    arenas.putIfAbsent(snapshot.getSessionId(), new HeldArena(snapshot));
+                }
+            }
+        }
+        if (!arenas.isEmpty()) {
+            plugin.getLogger().info("Found " + arenas.size() + " curse arena(s) to restore");
+        }
+
+        sweepTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::sweep,
+            SWEEP_INTERVAL_TICKS, SWEEP_INTERVAL_TICKS);
+    }
+
+    /**
+     * Stops the sweep and any restore in progress. Unfinished arenas are still on disk
+     * and are restored from the start on the next run.
+     */
+    public void stop() {
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+        if (restoreTask != null) {
+            restoreTask.cancel();
+            restoreTask = null;
+        }
+        restoreQueue.clear();
+    }
+
+    /**
+     * Captures a session's arena before it is changed. A session keeps the first arena
+     * it captures.
+     * @param owner The session
+     * @param center The middle of the change
+     * @param radius How far from the middle blocks may change, in blocks
+     */
+    public void capture(MobOwner owner, Location center, int radius) {
+        World world = center.getWorld();
+        if (!isEnabled() || world == null || arenas.containsKey(owner.getSessionId())) return;
+
+        int[] min = {
+            center.getBlockX() - radius,
+            Math.max(world.getMinHeight(), center.getBlockY() - radius),
+            center.getBlockZ() - radius
+        };
+        int[] max = {
+            center.getBlockX() + radius,
+            Math.min(world.getMaxHeight() - 1, center.getBlockY() + radius),
+            center.getBlockZ() + radius
+        };
+
+        // Snapshots are cheap copies; the box is read out of them off the main thread
+        Map<Long, ChunkSnapshot> chunks = new HashMap<>();
+        for (int chunkX = min[0] >> 4; chunkX <= max[0] >> 4; chunkX++) {
+            for (int chunkZ = min[2] >> 4; chunkZ <= max[2] >> 4; chunkZ++) {
+                chunks.put(BlockKeys.chunk(chunkX, chunkZ),
+                    world.getChunkAt(chunkX, chunkZ).getChunkSnapshot(false, false, false));
+            }
+        }
+
+        UUID sessionId = owner.getSessionId();
+        UUID worldId = world.getUID();
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            ArenaSnapshot snapshot = ArenaSnapshot.copy(sessionId, worldId, min, max, chunks);
+            write(snapshot);
+            plugin.getServer().getScheduler().runTask(plugin,
+                () -> arenas.putIfAbsent(sessionId, new HeldArena(snapshot)));
+        });
+    }
+
+    /**
+     * Runs a destructive step with the drops of the blocks it breaks suppressed, while
+     * arenas are restored
+     */
+    public void withoutDrops(Runnable step) {
+        suppressingDrops = isEnabled();
+        try {
+            step.run();
+        } finally {
+            suppressingDrops = false;
+        }
+    }
+
+    /**
+     * Whether an explosion happening now is part of a {@link #withoutDrops} step
+     */
+    public boolean isSuppressingDrops() {
+        return suppressingDrops;
+    }
+
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        long delayMillis = plugin.getConfigManager().getArenaRestoreDelaySeconds() * 1000L;
+        CurseMobManager sessions = plugin.getCurseMobManager();
+        SessionJournalManager journal = plugin.getSessionJournalManager();
+
+        for (Iterator<Map.Entry<UUID, HeldArena>> it = arenas.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<UUID, HeldArena> entry = it.next();
+            HeldArena arena = entry.getValue();
+            if (!arena.awaitingChests.isEmpty()) {
+                // Chests no longer tracked without being reported, e.g. after a world unload
+                arena.awaitingChests.removeIf(index -> !isRewardChest(arena.snapshot, index));
+                if (arena.awaitingChests.isEmpty()) {
+                    it.remove();
+                    deleteFile(entry.getKey());
+                }
+                continue;
+            }
+            if (arena.queued) continue;
+
+            if (sessions.isSessionLive(entry.getKey()) || journal.hasPendingSession(entry.getKey())) {
+                arena.orphanedAt = 0;
+                continue;
+            }
+            if (arena.orphanedAt == 0) {
+                arena.orphanedAt = now;
+                if (!arena.snapshot.hasLeftBehind()) {
+                    captureLeftBehind(entry.getKey(), arena);
+                }
+            }
+            if (!arena.capturing && now - arena.orphanedAt >= delayMillis && !isOccupied(arena.snapshot)) {
+                arena.queued = true;
+                restoreQueue.add(new RestoreJob(arena.snapshot));
+            }
+        }
+
+        if (!restoreQueue.isEmpty() && restoreTask == null) {
+            restoreTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::restoreBatch, 1L, 1L);
+        }
+    }
+
+    /**
+     * Captures the box again as the curse left it, so blocks players change after the
+     * session are told apart from the ones the curse changed. The arena is not queued
+     * until the capture is done; if it fails, the box is restored without it.
+     */
+    private void captureLeftBehind(UUID sessionId, HeldArena arena) {
+        ArenaSnapshot snapshot = arena.snapshot;
+        World world = plugin.getServer().getWorld(snapshot.getWorldId());
+        if (world == null) return;
+
+        // The first and last index are the box's lowest and highest corners
+        int last = snapshot.size() - 1;
+        List<CompletableFuture<Chunk>> loads = new ArrayList<>();
+        for (int chunkX = snapshot.x(0) >> 4; chunkX <= snapshot.x(last) >> 4; chunkX++) {
+            for (int chunkZ = snapshot.z(0) >> 4; chunkZ <= snapshot.z(last) >> 4; chunkZ++) {
+                loads.add(world.getChunkAtAsync(chunkX, chunkZ));
+            }
+        }
+
+        arena.capturing = true;
+        // Chunk loads complete on the main thread, so the last one runs this there too
+        CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).whenComplete((ignored, error) -> {
+            if (error != null) {
+                plugin.getLogger().warning("Could not capture arena " + sessionId + " as left; restoring all of it: " + error.getMessage());
+                arena.capturing = false;
+                return;
+            }
+            Map<Long, ChunkSnapshot> chunks = new HashMap<>();
+            for (CompletableFuture<Chunk> load : loads) {
+                Chunk chunk = load.join();
+                chunks.put(BlockKeys.chunk(chunk.getX(), chunk.getZ()), chunk.getChunkSnapshot(false, false, false));
+            }
+            plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+                ArenaSnapshot captured = snapshot.withLeftBehind(chunks);
+                write(captured);
+                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    arena.snapshot = captured;
+                    arena.capturing = false;
+                });
+            });
+        });
+    }
+
+    private boolean isOccupied(ArenaSnapshot snapshot) {
+        World world = plugin.getServer().getWorld(snapshot.getWorldId());
+        if (world == null) return false;
+
+        for (Player player : world.getPlayers()) {
+            Location location = player.getLocation();
+            if (snapshot.contains(location.getBlockX(), location.getBlockY(), location.getBlockZ(), OCCUPIED_MARGIN)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void restoreBatch() {
+        int budget = Math.max(1, plugin.getConfigManager().getArenaRestoreBlocksPerTick());
+        RewardChestManager rewardChests = plugin.getRewardChestManager();
+        // Arenas with a player in them are skipped this tick and checked again on the next
+        int paused = 0;
+
+        while (budget > 0 && restoreQueue.size() > paused) {
+            RestoreJob job = restoreQueue.peek();
+            ArenaSnapshot snapshot = job.snapshot;
+            World world = plugin.getServer().getWorld(snapshot.getWorldId());
+            if (world == null) {
+                // Unloaded since it was queued; its file is picked up again on the next run
+                restoreQueue.poll();
+                arenas.remove(snapshot.getSessionId());
+                continue;
+            }
+            if (job.loadingChunk) break;
+            if (job.checkedTick != plugin.getServer().getCurrentTick()) {
+                job.checkedTick = plugin.getServer().getCurrentTick();
+                job.occupied = isOccupied(snapshot);
+            }
+            if (job.occupied) {
+                restoreQueue.add(restoreQueue.poll());
+                paused++;
+                continue;
+            }
+
+            int x = snapshot.x(job.cursor);
+            int y = snapshot.y(job.cursor);
+            int z = snapshot.z(job.cursor);
+            if (!world.isChunkLoaded(x >> 4, z >> 4)) {
+                job.loadingChunk = true;
+                world.getChunkAtAsync(x >> 4, z >> 4).thenRun(() -> job.loadingChunk = false);
+                break;
+            }
+
+            Block block = world.getBlockAt(x, y, z);
+            BlockData current = block.getBlockData();
+            BlockData original = snapshot.getBlock(job.cursor);
+            BlockData leftBehind = snapshot.getLeftBehind(job.cursor);
+            if (rewardChests.isTracked(block)) {
+                job.chests.add(job.cursor);
+            } else if (!current.equals(original) && (leftBehind == null || current.equals(leftBehind))) {
+                block.setBlockData(original, false);
+                job.restored++;
+            }
+            budget--;
+
+            if (++job.cursor == snapshot.size()) {
+                restoreQueue.poll();
+                finish(job);
+            }
+        }
+
+        if (restoreQueue.isEmpty()) {
+            restoreTask.cancel();
+            restoreTask = null;
+        }
+    }
+
+    private void finish(RestoreJob job) {
+        UUID sessionId = job.snapshot.getSessionId();
+        HeldArena arena = arenas.get(sessionId);
+        if (arena != null && !job.chests.isEmpty()) {
+            // Kept, file and all, until its reward chests are gone and set back
+            arena.awaitingChests = job.chests;
+        } else {
+            arenas.remove(sessionId);
+            deleteFile(sessionId);
+        }
+
+        if (plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().info("Restored " + job.restored + " block(s) of arena " + sessionId
+                + (job.chests.isEmpty() ? "" : ", waiting on " + job.chests.size() + " reward chest(s)"));
+        }
+    }
+
+    /**
+     * Sets a reward chest's block back once the chest is gone, if an arena holds it.
+     * Called by the {@link RewardChestManager} as it stops tracking a chest; the block is
+     * only set if nothing has been put in the chest's place since.
+     */
+    public void onRewardChestGone(World world, int x, int y, int z) {
+        // A chest being broken is still in the world until the event is over
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            for (Map.Entry<UUID, HeldArena> entry : arenas.entrySet()) {
+                HeldArena arena = entry.getValue();
+                int index = arena.snapshot.getWorldId().equals(world.getUID()) ? arena.snapshot.indexOf(x, y, z) : -1;
+                if (index < 0) continue;
+
+                Block block = world.getBlockAt(x, y, z);
+                if (block.getType().isAir()) {
+                    block.setBlockData(arena.snapshot.getBlock(index), false);
+                }
+                if (!arena.awaitingChests.isEmpty() && arena.awaitingChests.remove((Integer) index)
+                    && arena.awaitingChests.isEmpty()) {
+                    arenas.remove(entry.getKey());
+                    deleteFile(entry.getKey());
+                }
+                return;
+            }
+        });
+    }
+
+    private boolean isRewardChest(ArenaSnapshot snapshot, int index) {
+        World world = plugin.getServer().getWorld(snapshot.getWorldId());
+        return world != null && plugin.getRewardChestManager()
+            .isTracked(world, snapshot.x(index), snapshot.y(index), snapshot.z(index));
+    }
+
+    private void deleteFile(UUID sessionId) {
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                Files.deleteIfExists(fileFor(sessionId).toPath());
+            } catch (IOException e) {
+                plugin.getLogger().warning("Could not delete restored arena " + sessionId + ": " + e.getMessage());
+            }
+        });
+    }
+
+    private File fileFor(UUID sessionId) {
+        return new File(arenaFolder, sessionId + ".arena");
+    }
+
+    private void write(ArenaSnapshot snapshot) {
+        try {
+            Path target = fileFor(snapshot.getSessionId()).toPath();
+            Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                snapshot.write(out);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().severe("Could not save arena " + snapshot.getSessionId() + ": " + e.getMessage());
+        }
+    }
+
+    private ArenaSnapshot read(File file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+            new GZIPInputStream(Files.newInputStream(file.toPath()))))) {
+            return ArenaSnapshot.read(in);
+        } catch (IOException e) {
+            plugin.getLogger().severe("Could not load arena " + file.getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
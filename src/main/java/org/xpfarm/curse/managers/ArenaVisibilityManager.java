@@ -0,0 +1,145 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.managers;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.models.MobOwner;
+import org.xpfarm.curse.utils.EntityResolver;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Decides who is sent a curse's entities and effects.
+ *
+ * <p>With {@code visibility.privateArenas} on, every entity a session registers is hidden
+ * by default and shown only to the cursed player and to players who opted in with
+ * {@code /curse spectate}. Everyone else is never sent its spawn, metadata or equipment
+ * packets, so passing near a curse costs them nothing however many are running. Effects
+ * submitted for a session are limited to the same audience by the {@link EffectManager}.
+ *
+ * <p>Whether an entity is hidden is saved with it, while who it is shown to is not, so a
+ * resumed session registers its mobs again and they are re-shown to its player.
+ */
+public class ArenaVisibilityManager {
+
+    private final CursePlugin plugin;
+    // Entities each session has registered
+    private final Map<UUID, Set<UUID>> entities;
+    // Spectator to the session they are watching
+    private final Map<UUID, UUID> spectating;
+
+    public ArenaVisibilityManager(CursePlugin plugin) {
+        this.plugin = plugin;
+        this.entities = new HashMap<>();
+        this.spectating = new HashMap<>();
+    }
+
+    public boolean isEnabled() {
+        return plugin.getConfigManager().isPrivateArenas();
+    }
+
+    /**
+     * Registers one of a session's entities and applies the visibility mode to it. Call
+     * from the spawn callback where possible, so nobody else is ever sent the spawn.
+     * @param entity The entity
+     * @param owner Its session
+     */
+    public void register(Entity entity, MobOwner owner) {
+        if (!isEnabled()) {
+            // Hidden under an earlier config; make it public again
+            if (!entity.isVisibleByDefault()) {
+                entity.setVisibleByDefault(true);
+            }
+            return;
+        }
+
+        entities.computeIfAbsent(owner.getSessionId(), id -> new HashSet<>()).add(entity.getUniqueId());
+        entity.setVisibleByDefault(false);
+        show(owner.getPlayerId(), entity);
+        for (Map.Entry<UUID, UUID> entry : spectating.entrySet()) {
+            if (entry.getValue().equals(owner.getSessionId())) {
+                show(entry.getKey(), entity);
+            }
+        }
+    }
+
+    /**
+     * Whether a player is part of a session's audience: everyone when arenas are public,
+     * otherwise its player and its spectators
+     */
+    public boolean canSee(Player player, MobOwner owner) {
+        if (!isEnabled()) return true;
+        UUID playerId = player.getUniqueId();
+        return playerId.equals(owner.getPlayerId()) || owner.getSessionId().equals(spectating.get(playerId));
+    }
+
+    /**
+     * Starts showing a player a session's entities, instead of any session they were
+     * watching before
+     * @param player The spectator
+     * @param owner The session to watch
+     */
+    public void spectate(Player player, MobOwner owner) {
+        stopSpectating(player);
+        spectating.put(player.getUniqueId(), owner.getSessionId());
+        for (UUID entityId : entities.getOrDefault(owner.getSessionId(), Set.of())) {
+            Entity entity = EntityResolver.entity(entityId);
+            if (entity != null) {
+                player.showEntity(plugin, entity);
+            }
+        }
+    }
+
+    /**
+     * Stops showing a player the session they are watching
+     * @return true if they were watching one
+     */
+    public boolean stopSpectating(Player player) {
+        UUID sessionId = spectating.remove(player.getUniqueId());
+        if (sessionId == null) {
+            return false;
+        }
+        for (UUID entityId : entities.getOrDefault(sessionId, Set.of())) {
+            Entity entity = EntityResolver.entity(entityId);
+            if (entity != null) {
+                player.hideEntity(plugin, entity);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Forgets a player who is leaving; what they were shown is dropped with them
+     */
+    public void onQuit(Player player) {
+        spectating.remove(player.getUniqueId());
+    }
+
+    /**
+     * Forgets an ended session's entities and spectators
+     */
+    public void forget(UUID sessionId) {
+        entities.remove(sessionId);
+        spectating.values().removeIf(sessionId::equals);
+    }
+
+    private void show(UUID playerId, Entity entity) {
+        Player player = EntityResolver.player(playerId);
+        if (player != null) {
+            player.showEntity(plugin, entity);
+        }
+    }
+}
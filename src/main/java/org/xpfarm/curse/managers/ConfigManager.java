@@ -71,6 +71,120 @@ public class ConfigManager {
         return config.getInt("plague.resetCooldownMinutes", 5);
     }
 
+    // Cooldown Configuration
+    public int getCooldownMinutes(String mechanicId) {
+        return config.getInt("mechanics." + mechanicId.toLowerCase() + ".cooldownMinutes", getResetCooldownMinutes());
+    }
+
+    // Persistence Configuration
+    public int getCooldownFlushSeconds() {
+        return config.getInt("persistence.cooldownFlushSeconds", 30);
+    }
+
+    public int getJournalIntervalSeconds() {
+        return config.getInt("persistence.journalIntervalSeconds", 10);
+    }
+
+    public int getResumeWindowMinutes() {
+        return config.getInt("persistence.resumeWindowMinutes", 10);
+    }
+
+    // Reaper Configuration
+    public int getReaperBatchSize() {
+        return config.getInt("reaper.batchSize", 20);
+    }
+
+    // Mob Tracking Configuration
+    public CurseMobManager.UnloadPolicy getMobUnloadPolicy() {
+        String policy = config.getString("mobs.unloadPolicy", "TELEPORT");
+        try {
+            return CurseMobManager.UnloadPolicy.valueOf(policy.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Unknown mobs.unloadPolicy '" + policy + "', using TELEPORT");
+            return CurseMobManager.UnloadPolicy.TELEPORT;
+        }
+    }
+
+    public int getSpawnsPerTick() {
+        return Math.max(1, config.getInt("mobs.spawnsPerTick", 4));
+    }
+
+    public CurseMobManager.DropPolicy getMobDropPolicy() {
+        String policy = config.getString("mobs.dropPolicy", "POOL");
+        try {
+            return CurseMobManager.DropPolicy.valueOf(policy.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Unknown mobs.dropPolicy '" + policy + "', using POOL");
+            return CurseMobManager.DropPolicy.POOL;
+        }
+    }
+
+    public boolean isRecycleMobs() {
+        return config.getBoolean("mobs.recycle", true);
+    }
+
+    public int getHordeMaxAlive() {
+        return Math.max(0, config.getInt("mobs.horde.maxAlive", 12));
+    }
+
+    public double getHordeHealthScale() {
+        return Math.max(0.1, config.getDouble("mobs.horde.healthScale", 1.5));
+    }
+
+    public boolean isArenaGoalsEnabled() {
+        return config.getBoolean("mobs.arenaGoals", true);
+    }
+
+    public int getRepathTicks() {
+        return Math.max(1, config.getInt("mobs.repathTicks", 10));
+    }
+
+    // Rewards Configuration
+    public RewardVaultManager.RewardMode getRewardMode() {
+        String mode = config.getString("rewards.mode", "VAULT");
+        try {
+            return RewardVaultManager.RewardMode.valueOf(mode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Unknown rewards.mode '" + mode + "', using VAULT");
+            return RewardVaultManager.RewardMode.VAULT;
+        }
+    }
+
+    public int getRewardChestTtlMinutes() {
+        return Math.max(1, config.getInt("rewards.chestTtlMinutes", 30));
+    }
+
+    public int getRewardChestRemovalsPerTick() {
+        return config.getInt("rewards.chestRemovalsPerTick", 10);
+    }
+
+    // Effects Configuration
+    public int getParticlesPerTick() {
+        return Math.max(0, config.getInt("effects.particlesPerTick", 400));
+    }
+
+    public double getEffectViewDistance() {
+        return config.getDouble("effects.viewDistance", 48.0);
+    }
+
+    // Visibility Configuration
+    public boolean isPrivateArenas() {
+        return config.getBoolean("visibility.privateArenas", false);
+    }
+
+    // Arena Restoration Configuration
+    public boolean isArenaRestoreEnabled() {
+        return config.getBoolean("arena.restore", true);
+    }
+
+    public int getArenaRestoreDelaySeconds() {
+        return Math.max(0, config.getInt("arena.restoreDelaySeconds", 30));
+    }
+
+    public int getArenaRestoreBlocksPerTick() {
+        return config.getInt("arena.restoreBlocksPerTick", 512);
+    }
+
     // Leaderboard Configuration
     public boolean isLeaderboardEnabled() {
         return config.getBoolean("leaderboard.enabled", true);
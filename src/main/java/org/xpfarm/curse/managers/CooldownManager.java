@@ -1,20 +1,93 @@
 package org.xpfarm.curse.managers;
 
 import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
 import org.xpfarm.curse.CursePlugin;
-
-import java.util.HashMap;
-import java.util.Map;
+import org.xpfarm.curse.mechanics.ZombieRoyaleMechanic;
+import org.xpfarm.curse.models.CooldownStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * Tracks per-mechanic cooldowns and persists them to {@code cooldowns.dat}.
+ *
+ * <p>Changes only mark the store dirty; an async task writes the file at most once per
+ * flush interval, so command and event handlers never touch the disk.
+ */
 public class CooldownManager {
 
+    /** The mechanic a cooldown applies to when the caller does not name one. */
+    public static final String DEFAULT_MECHANIC = ZombieRoyaleMechanic.MECHANIC_ID;
+
     private final CursePlugin plugin;
-    private final Map<UUID, Long> cooldowns;
+    private final File cooldownFile;
+    private CooldownStore cooldowns;
+    private BukkitTask flushTask;
 
     public CooldownManager(CursePlugin plugin) {
         this.plugin = plugin;
-        this.cooldowns = new HashMap<>();
+        this.cooldownFile = new File(plugin.getDataFolder(), "cooldowns.dat");
+        this.cooldowns = new CooldownStore();
+    }
+
+    /**
+     * Loads persisted cooldowns and starts the background flush task.
+     * Called once on enable, after the configuration is loaded.
+     */
+    public void loadCooldowns() {
+        long now = System.currentTimeMillis();
+        if (cooldownFile.exists()) {
+            try {
+                List<String> lines = Files.readAllLines(cooldownFile.toPath(), StandardCharsets.UTF_8);
+                cooldowns = CooldownStore.decode(lines, now);
+            } catch (IOException e) {
+                plugin.getLogger().severe("Could not load cooldown file: " + e.getMessage());
+            }
+        }
+
+        if (flushTask != null) {
+            flushTask.cancel();
+        }
+        long interval = Math.max(1, plugin.getConfigManager().getCooldownFlushSeconds()) * 20L;
+        flushTask = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, this::flush, interval, interval);
+    }
+
+    /**
+     * Stops the flush task and writes any pending changes synchronously.
+     * Called from {@code onDisable}, where the scheduler no longer runs async tasks.
+     */
+    public void saveCooldowns() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        flush();
+    }
+
+    private synchronized void flush() {
+        long now = System.currentTimeMillis();
+        cooldowns.purgeExpired(now);
+        if (!cooldowns.consumeDirty()) {
+            return;
+        }
+
+        try {
+            Path target = cooldownFile.toPath();
+            Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling(cooldownFile.getName() + ".tmp");
+            Files.write(temp, cooldowns.encode(now), StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            cooldowns.markDirty();
+            plugin.getLogger().severe("Could not save cooldown file: " + e.getMessage());
+        }
     }
 
     public void setCooldown(Player player) {
@@ -22,8 +95,16 @@ public class CooldownManager {
     }
 
     public void setCooldown(UUID playerId) {
-        long cooldownTime = System.currentTimeMillis() + (plugin.getConfigManager().getResetCooldownMinutes() * 60 * 1000L);
-        cooldowns.put(playerId, cooldownTime);
+        setCooldown(playerId, DEFAULT_MECHANIC);
+    }
+
+    public void setCooldown(Player player, String mechanicId) {
+        setCooldown(player.getUniqueId(), mechanicId);
+    }
+
+    public void setCooldown(UUID playerId, String mechanicId) {
+        long cooldownTime = System.currentTimeMillis() + (plugin.getConfigManager().getCooldownMinutes(mechanicId) * 60 * 1000L);
+        cooldowns.set(playerId, mechanicId, cooldownTime);
     }
 
     public boolean hasCooldown(Player player) {
@@ -31,17 +112,15 @@ public class CooldownManager {
     }
 
     public boolean hasCooldown(UUID playerId) {
-        Long cooldownTime = cooldowns.get(playerId);
-        if (cooldownTime == null) {
-            return false;
-        }
+        return hasCooldown(playerId, DEFAULT_MECHANIC);
+    }
 
-        if (System.currentTimeMillis() >= cooldownTime) {
-            cooldowns.remove(playerId);
-            return false;
-        }
+    public boolean hasCooldown(Player player, String mechanicId) {
+        return hasCooldown(player.getUniqueId(), mechanicId);
+    }
 
-        return true;
+    public boolean hasCooldown(UUID playerId, String mechanicId) {
+        return cooldowns.getExpiry(playerId, mechanicId, System.currentTimeMillis()) != 0;
     }
 
     public long getRemainingCooldownSeconds(Player player) {
@@ -49,21 +128,37 @@ public class CooldownManager {
     }
 
     public long getRemainingCooldownSeconds(UUID playerId) {
-        Long cooldownTime = cooldowns.get(playerId);
-        if (cooldownTime == null) {
+        return getRemainingCooldownSeconds(playerId, DEFAULT_MECHANIC);
+    }
+
+    public long getRemainingCooldownSeconds(Player player, String mechanicId) {
+        return getRemainingCooldownSeconds(player.getUniqueId(), mechanicId);
+    }
+
+    public long getRemainingCooldownSeconds(UUID playerId, String mechanicId) {
+        long now = System.currentTimeMillis();
+        long cooldownTime = cooldowns.getExpiry(playerId, mechanicId, now);
+        if (cooldownTime == 0) {
             return 0;
         }
 
-        long remaining = cooldownTime - System.currentTimeMillis();
+        long remaining = cooldownTime - now;
         return Math.max(0, remaining / 1000);
     }
 
+    /**
+     * Removes every mechanic's cooldown for a player
+     */
     public void removeCooldown(Player player) {
         removeCooldown(player.getUniqueId());
     }
 
     public void removeCooldown(UUID playerId) {
-        cooldowns.remove(playerId);
+        cooldowns.removeAll(playerId);
+    }
+
+    public void removeCooldown(UUID playerId, String mechanicId) {
+        cooldowns.remove(playerId, mechanicId);
     }
 
     public void clearAllCooldowns() {
@@ -0,0 +1,454 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.managers;
+
+import com.destroystokyo.paper.entity.ai.Goal;
+import com.destroystokyo.paper.entity.ai.GoalKey;
+import com.destroystokyo.paper.entity.ai.GoalType;
+import com.destroystokyo.paper.entity.ai.MobGoals;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Zombie;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitTask;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.models.MobOwner;
+import org.xpfarm.curse.models.PursueOwnerGoal;
+import org.xpfarm.curse.utils.EntityResolver;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Ownership registry for curse mobs, the reaper that removes the ones nobody owns, and
+ * the handler for mobs whose chunk unloads mid-round.
+ *
+ * <p>Every curse mob carries its session ID in its PDC. Curse mobs are persistent, so a
+ * crash, a skipped cleanup, or a mob sitting in an unloaded chunk when its session ended
+ * leaves an entity that would otherwise live forever. When such an entity is loaded again
+ * its tag no longer matches a live or journalled session, and it is queued for removal.
+ * The queue is drained a batch per tick so loading a crowded old arena never spikes.
+ *
+ * <p>When a live session's mob unloads, its handle is released and
+ * {@code mobs.unloadPolicy} decides what happens next, so the round can still end.
+ *
+ * <p>With {@code mobs.arenaGoals} on, each tracked mob also gets an arena goal profile:
+ * its vanilla target selectors and the wandering, village and turtle-egg goals are
+ * removed, door breaking and reinforcements are turned off, and a single
+ * {@link PursueOwnerGoal} keeps it on the cursed player. Custom goals do not survive a
+ * chunk reload, so the profile is re-applied whenever a tracked mob loads again.
+ */
+public class CurseMobManager {
+
+    /**
+     * What happens to a curse mob whose chunk unloads while its session is running
+     */
+    public enum UnloadPolicy {
+        /** Load the chunk back and return the mob to the arena. */
+        TELEPORT,
+        /** Forget the mob and spawn a fresh one in the arena. */
+        REPLACE,
+        /** Forget the mob; it no longer counts towards the round. */
+        ESCAPED
+    }
+
+    /**
+     * What a curse mob's death leaves behind
+     */
+    public enum DropPolicy {
+        /** Vanilla drops and XP orbs, with double XP for the cursed player. */
+        VANILLA,
+        /** No item or orb entities; the cursed player's kills fill the session's reward pool. */
+        POOL
+    }
+
+    /** The name curse zombies carried before they were tagged, for reaping old leftovers. */
+    private static final String LEGACY_MOB_NAME = "Cursed Zombie";
+
+    /** Vanilla goals a curse mob has no use for in the arena, by key. */
+    private static final Set<String> STRIPPED_GOALS = Set.of(
+        "random_stroll", "water_avoiding_random_stroll", "move_through_village",
+        "zombie_attack_turtle_egg", "break_door", "random_look_around", "look_at_player");
+
+    /** How long a recalled mob has to load before it is counted as escaped instead. */
+    private static final long RECALL_TIMEOUT_TICKS = 100L;
+
+    private final CursePlugin plugin;
+    private final NamespacedKey sessionKey;
+    private final GoalKey<Mob> pursueGoalKey;
+
+    private final Map<UUID, MobOwner> liveSessions;
+
+    // Mobs being recalled under TELEPORT, and the chunk held loaded for each
+    private final Map<UUID, Recall> recalls;
+    // Pending recalls per held chunk; a plugin has one ticket per chunk, not one per recall
+    private final Map<HeldChunk, Integer> heldChunks;
+
+    private final ArrayDeque<Entity> reapQueue;
+    private BukkitTask reapTask;
+
+    private record HeldChunk(World world, int chunkX, int chunkZ) {}
+
+    private record Recall(UUID sessionId, HeldChunk chunk) {}
+
+    public CurseMobManager(CursePlugin plugin) {
+        this.plugin = plugin;
+        this.sessionKey = new NamespacedKey(plugin, "curse_session");
+        this.pursueGoalKey = GoalKey.of(Mob.class, new NamespacedKey(plugin, "pursue_owner"));
+        this.liveSessions = new HashMap<>();
+        this.recalls = new HashMap<>();
+        this.heldChunks = new HashMap<>();
+        this.reapQueue = new ArrayDeque<>();
+    }
+
+    /**
+     * Marks a session as live so its mobs are not reaped
+     */
+    public void registerSession(MobOwner owner) {
+        liveSessions.put(owner.getSessionId(), owner);
+    }
+
+    /**
+     * Forgets a session. Any of its mobs still in the world become orphans and are
+     * reaped the next time they load.
+     */
+    public void unregisterSession(UUID sessionId) {
+        liveSessions.remove(sessionId);
+        plugin.getArenaVisibilityManager().forget(sessionId);
+        recalls.entrySet().removeIf(entry -> {
+            if (!entry.getValue().sessionId().equals(sessionId)) {
+                return false;
+            }
+            releaseChunk(entry.getValue());
+            return true;
+        });
+    }
+
+    public boolean isSessionLive(UUID sessionId) {
+        return liveSessions.containsKey(sessionId);
+    }
+
+    /**
+     * Gets the live session a player is cursed with
+     * @return the session, or null if they have none
+     */
+    public MobOwner getSessionOf(UUID playerId) {
+        for (MobOwner owner : liveSessions.values()) {
+            if (owner.getPlayerId().equals(playerId)) {
+                return owner;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Tags a mob with its session and limits who is sent it to the session's audience.
+     * Call from the spawn callback, so nobody outside the audience is ever sent the spawn.
+     */
+    public void prepareMob(Entity mob, MobOwner owner) {
+        mob.getPersistentDataContainer().set(sessionKey, PersistentDataType.STRING, owner.getSessionId().toString());
+        plugin.getArenaVisibilityManager().register(mob, owner);
+    }
+
+    /**
+     * Adds a mob to its session's tracker and gives it the arena goals. Prepares it too,
+     * for mobs that were not spawned for the session, e.g. ones resumed after a restart;
+     * preparing a mob again changes nothing.
+     */
+    public void trackMob(Entity mob, MobOwner owner) {
+        prepareMob(mob, owner);
+        owner.getMobTracker().add(mob.getUniqueId());
+        if (mob instanceof Mob tracked) {
+            applyArenaGoals(tracked, owner);
+        }
+    }
+
+    public void untrackMob(Entity mob) {
+        MobOwner owner = getOwner(mob);
+        if (owner != null) {
+            owner.getMobTracker().remove(mob.getUniqueId());
+        }
+    }
+
+    /**
+     * Gets the session a mob belongs to
+     * @return the session ID, or null if the entity is not a curse mob
+     */
+    public UUID getSessionId(Entity entity) {
+        String tag = entity.getPersistentDataContainer().get(sessionKey, PersistentDataType.STRING);
+        if (tag == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(tag);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the live session that currently tracks a mob
+     * @return the session, or null if no live session tracks it
+     */
+    public MobOwner getOwner(Entity mob) {
+        UUID sessionId = getSessionId(mob);
+        MobOwner owner = sessionId != null ? liveSessions.get(sessionId) : null;
+        return owner != null && owner.getMobTracker().contains(mob.getUniqueId()) ? owner : null;
+    }
+
+    /**
+     * Re-attaches tracked mobs in a freshly loaded batch of entities and queues every
+     * orphaned one for removal
+     */
+    public void onEntitiesLoaded(Collection<Entity> entities) {
+        for (Entity entity : entities) {
+            MobOwner owner = getOwner(entity);
+            if (owner != null) {
+                reattach(owner, entity);
+            } else if (isOrphan(entity)) {
+                queueForRemoval(entity);
+            }
+        }
+    }
+
+    /**
+     * Releases the handles of tracked mobs in a batch of unloading entities and applies
+     * the unload policy to each
+     */
+    public void onEntitiesUnloaded(Collection<Entity> entities) {
+        UnloadPolicy policy = plugin.getConfigManager().getMobUnloadPolicy();
+        for (Entity entity : entities) {
+            MobOwner owner = getOwner(entity);
+            if (owner == null || !owner.getMobTracker().unload(entity.getUniqueId())) {
+                continue;
+            }
+
+            UUID mobId = entity.getUniqueId();
+            EntityResolver.invalidate(mobId);
+            switch (policy) {
+                case TELEPORT -> recall(owner, mobId, entity.getLocation());
+                case REPLACE -> {
+                    owner.getMobTracker().remove(mobId);
+                    runIfLive(owner, owner::spawnReplacement);
+                }
+                case ESCAPED -> {
+                    owner.getMobTracker().remove(mobId);
+                    runIfLive(owner, () -> owner.onMobEscaped(mobId));
+                }
+            }
+        }
+    }
+
+    /**
+     * Accounts for a tracked mob that left the world other than by dying or unloading,
+     * e.g. removed by another plugin or transformed, so its wave can still end
+     */
+    public void onEntityRemoved(Entity entity, EntityRemoveEvent.Cause cause) {
+        if (cause == EntityRemoveEvent.Cause.DEATH || cause == EntityRemoveEvent.Cause.UNLOAD) {
+            return;
+        }
+        MobOwner owner = getOwner(entity);
+        if (owner == null) {
+            return;
+        }
+
+        // Deferred so a session removing its own mobs has already stopped tracking them
+        UUID mobId = entity.getUniqueId();
+        EntityResolver.invalidate(mobId);
+        runIfLive(owner, () -> {
+            if (owner.getMobTracker().remove(mobId)) {
+                owner.onMobEscaped(mobId);
+            }
+        });
+    }
+
+    /**
+     * Checks every entity already loaded. Chunks loaded before the plugin enabled never
+     * fire a load event, so this runs once after startup.
+     */
+    public void sweepLoadedWorlds() {
+        for (World world : plugin.getServer().getWorlds()) {
+            onEntitiesLoaded(world.getEntities());
+        }
+    }
+
+    private void reattach(MobOwner owner, Entity mob) {
+        UUID mobId = mob.getUniqueId();
+        if (!owner.getMobTracker().reload(mobId)) {
+            return;
+        }
+        EntityResolver.invalidate(mobId);
+        // Who is shown the mob is not saved with it, e.g. across a restart
+        plugin.getArenaVisibilityManager().register(mob, owner);
+        if (mob instanceof Mob tracked) {
+            applyArenaGoals(tracked, owner);
+            if (tracked.getTarget() == null) {
+                tracked.setTarget(EntityResolver.player(owner.getPlayerId()));
+            }
+        }
+
+        Recall recall = recalls.remove(mobId);
+        if (recall != null) {
+            // Entities are mid-load; move the mob once the load has finished
+            plugin.getServer().getScheduler().runTask(plugin, () -> {
+                Entity recalled = EntityResolver.entity(mobId);
+                Location arena = owner.getArenaCenter();
+                if (recalled != null && recalled.isValid() && arena != null) {
+                    recalled.teleport(arena);
+                }
+                releaseChunk(recall);
+            });
+        }
+    }
+
+    private void applyArenaGoals(Mob mob, MobOwner owner) {
+        if (!plugin.getConfigManager().isArenaGoalsEnabled()) return;
+
+        MobGoals goals = plugin.getServer().getMobGoals();
+        if (goals.hasGoal(mob, pursueGoalKey)) return;
+
+        List<Goal<Mob>> stripped = new ArrayList<>();
+        for (Goal<Mob> goal : goals.getAllGoals(mob)) {
+            if (goal.getTypes().contains(GoalType.TARGET)
+                || STRIPPED_GOALS.contains(goal.getKey().getNamespacedKey().getKey())) {
+                stripped.add(goal);
+            }
+        }
+        for (Goal<Mob> goal : stripped) {
+            goals.removeGoal(mob, goal);
+        }
+
+        if (mob instanceof Zombie zombie) {
+            zombie.setCanBreakDoors(false);
+        }
+        AttributeInstance reinforcements = mob.getAttribute(Attribute.SPAWN_REINFORCEMENTS);
+        if (reinforcements != null) {
+            reinforcements.setBaseValue(0.0);
+        }
+
+        goals.addGoal(mob, 1, new PursueOwnerGoal(pursueGoalKey, mob, owner.getPlayerId(),
+            plugin.getConfigManager().getRepathTicks()));
+    }
+
+    private void recall(MobOwner owner, UUID mobId, Location lastSeen) {
+        // Chunk coordinates from the location; getChunk() could reload the chunk mid-unload
+        HeldChunk chunk = new HeldChunk(lastSeen.getWorld(), lastSeen.getBlockX() >> 4, lastSeen.getBlockZ() >> 4);
+        Recall recall = new Recall(owner.getSessionId(), chunk);
+        heldChunks.merge(chunk, 1, Integer::sum);
+        Recall previous = recalls.put(mobId, recall);
+        if (previous != null) {
+            releaseChunk(previous);
+        }
+
+        // Hold the chunk so its entities load again, then give up if the mob never shows.
+        // The recall may be released while the chunk loads; a ticket added after that
+        // would never be removed.
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            if (recalls.get(mobId) == recall) {
+                chunk.world().getChunkAtAsync(chunk.chunkX(), chunk.chunkZ()).thenAccept(loaded -> {
+                    if (recalls.get(mobId) == recall) {
+                        loaded.addPluginChunkTicket(plugin);
+                    }
+                });
+            }
+        });
+        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+            if (recalls.remove(mobId, recall)) {
+                releaseChunk(recall);
+                owner.getMobTracker().remove(mobId);
+                runIfLive(owner, () -> owner.onMobEscaped(mobId));
+            }
+        }, RECALL_TIMEOUT_TICKS);
+    }
+
+    private void releaseChunk(Recall recall) {
+        // Horde mobs tend to unload together; keep the ticket until the last of them is done
+        HeldChunk chunk = recall.chunk();
+        if (heldChunks.computeIfPresent(chunk, (key, count) -> count > 1 ? count - 1 : null) == null) {
+            chunk.world().removePluginChunkTicket(chunk.chunkX(), chunk.chunkZ(), plugin);
+        }
+    }
+
+    private void runIfLive(MobOwner owner, Runnable action) {
+        // Never act from inside the unload event itself
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            if (liveSessions.get(owner.getSessionId()) == owner) {
+                action.run();
+            }
+        });
+    }
+
+    private boolean isOrphan(Entity entity) {
+        UUID sessionId = getSessionId(entity);
+        if (sessionId == null) {
+            return isLegacyCurseMob(entity);
+        }
+
+        // A live session's mob it no longer tracks, e.g. a journalled one it gave up on
+        // after a restart; journalled mobs are tracked as unloaded until then
+        if (liveSessions.containsKey(sessionId)) {
+            return true;
+        }
+
+        // Waiting for its player to return after a restart
+        return !plugin.getSessionJournalManager().hasPendingSession(sessionId);
+    }
+
+    private boolean isLegacyCurseMob(Entity entity) {
+        if (!(entity instanceof Zombie) || !entity.isPersistent()) {
+            return false;
+        }
+        Component name = entity.customName();
+        return name != null && LEGACY_MOB_NAME.equals(PlainTextComponentSerializer.plainText().serialize(name));
+    }
+
+    private void queueForRemoval(Entity entity) {
+        reapQueue.add(entity);
+        if (reapTask == null) {
+            reapTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::reapBatch, 1L, 1L);
+        }
+    }
+
+    private void reapBatch() {
+        int batchSize = Math.max(1, plugin.getConfigManager().getReaperBatchSize());
+        int reaped = 0;
+        while (reaped < batchSize && !reapQueue.isEmpty()) {
+            Entity entity = reapQueue.poll();
+            if (entity.isValid()) {
+                entity.remove();
+                reaped++;
+            }
+        }
+
+        if (reaped > 0 && plugin.getConfigManager().isLogMobSpawns()) {
+            plugin.getLogger().info("Reaped " + reaped + " orphaned curse mob(s)");
+        }
+
+        if (reapQueue.isEmpty()) {
+            reapTask.cancel();
+            reapTask = null;
+        }
+    }
+}
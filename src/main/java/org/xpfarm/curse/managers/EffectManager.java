@@ -0,0 +1,152 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.managers;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.models.MobOwner;
+import org.xpfarm.curse.models.ParticleEmitter;
+import org.xpfarm.curse.utils.ParticleShape;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drives every particle effect the plugin shows from one task.
+ *
+ * <p>Effects are submitted as {@link ParticleEmitter}s. Each tick the task emits the ones
+ * that are due, but only to players within {@code effects.viewDistance} of them, and
+ * stops once {@code effects.particlesPerTick} particles have been sent, so overlapping
+ * curses cannot flood clients or the network. An emission nobody is near, or that does
+ * not fit the budget, is skipped rather than delayed. Emitters take turns going first so
+ * a busy one cannot starve the rest. The task only runs while there is something to show.
+ *
+ * <p>An effect submitted for a session is only sent to that session's audience, as decided
+ * by the {@link ArenaVisibilityManager}.
+ */
+public class EffectManager {
+
+    private final CursePlugin plugin;
+    private final List<ActiveEmitter> emitters;
+    // Reused for every emission; the server reads it synchronously
+    private final List<Player> viewers;
+    private BukkitTask task;
+    private int firstIndex;
+
+    private static final class ActiveEmitter {
+        private final ParticleEmitter emitter;
+        private final MobOwner audience;
+        private int age;
+
+        private ActiveEmitter(ParticleEmitter emitter, MobOwner audience) {
+            this.emitter = emitter;
+            this.audience = audience;
+        }
+    }
+
+    public EffectManager(CursePlugin plugin) {
+        this.plugin = plugin;
+        this.emitters = new ArrayList<>();
+        this.viewers = new ArrayList<>();
+    }
+
+    /**
+     * Starts an effect. It first emits on the next tick.
+     * @param emitter The effect
+     */
+    public void submit(ParticleEmitter emitter) {
+        submit(emitter, null);
+    }
+
+    /**
+     * Starts an effect shown only to a session's audience. It first emits on the next tick.
+     * @param emitter The effect
+     * @param audience The session it belongs to, or null to show it to everyone nearby
+     */
+    public void submit(ParticleEmitter emitter, MobOwner audience) {
+        if (emitter.getOrigin().getWorld() == null) return;
+
+        emitters.add(new ActiveEmitter(emitter, audience));
+        if (task == null) {
+            task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Drops every effect and stops the task. Called on disable.
+     */
+    public void clear() {
+        emitters.clear();
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void tick() {
+        int budget = plugin.getConfigManager().getParticlesPerTick();
+        double viewDistance = plugin.getConfigManager().getEffectViewDistance();
+        double viewDistanceSquared = viewDistance * viewDistance;
+
+        int size = emitters.size();
+        if (size > 0) {
+            firstIndex = firstIndex % size;
+        }
+        for (int i = 0; i < size; i++) {
+            ActiveEmitter active = emitters.get((firstIndex + i) % size);
+            if (active.age++ % active.emitter.getPeriod() != 0) continue;
+
+            collectViewers(active, viewDistanceSquared);
+            if (viewers.isEmpty()) continue;
+
+            int cost = active.emitter.getCost() * viewers.size();
+            if (cost > budget) continue;
+
+            emit(active.emitter);
+            budget -= cost;
+        }
+        firstIndex++;
+
+        viewers.clear();
+        emitters.removeIf(active -> active.age >= active.emitter.getDuration());
+        if (emitters.isEmpty()) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void collectViewers(ActiveEmitter active, double viewDistanceSquared) {
+        viewers.clear();
+        Location origin = active.emitter.getOrigin();
+        ArenaVisibilityManager visibility = plugin.getArenaVisibilityManager();
+        for (Player player : origin.getWorld().getPlayers()) {
+            if (player.getLocation().distanceSquared(origin) <= viewDistanceSquared
+                && (active.audience == null || visibility.canSee(player, active.audience))) {
+                viewers.add(player);
+            }
+        }
+    }
+
+    private void emit(ParticleEmitter emitter) {
+        Location origin = emitter.getOrigin();
+        World world = origin.getWorld();
+        ParticleShape shape = emitter.getShape();
+        double spread = emitter.getSpread();
+        // Each point is one packet per viewer carrying all of its particles
+        for (int i = 0; i < shape.size(); i++) {
+            world.spawnParticle(emitter.getParticle(), viewers, null,
+                origin.getX() + shape.x(i), origin.getY() + shape.y(i), origin.getZ() + shape.z(i),
+                emitter.getCount(), spread, spread, spread, emitter.getSpeed(), null, false);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 import org.xpfarm.curse.CursePlugin;
 import org.xpfarm.curse.models.Plague;
+import org.xpfarm.curse.utils.EntityResolver;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -35,21 +36,24 @@ public class HUDManager {
         stopHUD(player);
 
         // Create and start new HUD task
+        // The task holds the viewer's UUID, not the Player, so a disconnect frees it
+        UUID viewerId = player.getUniqueId();
         int updateInterval = plugin.getConfigManager().getHUDUpdateInterval();
         BukkitTask task = new BukkitRunnable() {
             @Override
             public void run() {
-                if (!plague.isActive() || !player.isOnline()) {
+                Player viewer = EntityResolver.player(viewerId);
+                if (!plague.isActive() || viewer == null) {
                     this.cancel();
-                    activeTasks.remove(player.getUniqueId());
+                    activeTasks.remove(viewerId);
                     return;
                 }
 
-                updateHUDDisplay(player, plague);
+                updateHUDDisplay(viewer, plague);
             }
         }.runTaskTimer(plugin, 0L, updateInterval); // Use configurable update interval
 
-        activeTasks.put(player.getUniqueId(), task);
+        activeTasks.put(viewerId, task);
     }
 
     /**
@@ -117,7 +121,7 @@ public class HUDManager {
         result = result.append(roundInfo);
 
         // Check if this is the cursed player
-        boolean isCursedPlayer = viewer.getUniqueId().equals(plague.getPlayer().getUniqueId());
+        boolean isCursedPlayer = viewer.getUniqueId().equals(plague.getPlayerId());
 
         // Kill count (only show to cursed player)
         if (isCursedPlayer && plugin.getConfigManager().isShowKills()) {
@@ -128,7 +132,7 @@ public class HUDManager {
 
         // Remaining mobs in current round (only show to cursed player)
         if (isCursedPlayer && plugin.getConfigManager().isShowRemainingMobs()) {
-            int remainingMobs = plague.getActiveMobs().size();
+            int remainingMobs = plague.getRemainingMobCount();
             Component mobInfo = Component.text(" | Remaining: ", NamedTextColor.GRAY)
                 .append(Component.text(remainingMobs, remainingMobs > 0 ? NamedTextColor.RED : NamedTextColor.GREEN));
             result = result.append(mobInfo);
@@ -0,0 +1,81 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.managers;
+
+import org.bukkit.inventory.ItemStack;
+import org.xpfarm.curse.CursePlugin;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Builds each custom item once and hands out copies.
+ *
+ * <p>Books and potions carry display names, lore and PDC tags that are the same every
+ * time. Each owner registers a factory under an ID; {@link #rebuild()} runs every factory
+ * at enable and on reload, and {@link #create(String)} returns a clone of the stored
+ * prototype, so giving a book or filling a chest no longer rebuilds meta or components.
+ */
+public class ItemPrototypeManager {
+
+    private final CursePlugin plugin;
+    private final Map<String, Supplier<ItemStack>> factories;
+    private final Map<String, ItemStack> prototypes;
+
+    public ItemPrototypeManager(CursePlugin plugin) {
+        this.plugin = plugin;
+        this.factories = new LinkedHashMap<>();
+        this.prototypes = new HashMap<>();
+    }
+
+    /**
+     * Registers the factory for an item. The item is built on the next {@link #rebuild()}.
+     * @param id Unique prototype ID
+     * @param factory Builds a fresh copy of the item
+     */
+    public void register(String id, Supplier<ItemStack> factory) {
+        factories.put(id, factory);
+    }
+
+    /**
+     * Builds every registered prototype. Called at enable and on reload.
+     */
+    public void rebuild() {
+        prototypes.clear();
+        for (Map.Entry<String, Supplier<ItemStack>> entry : factories.entrySet()) {
+            prototypes.put(entry.getKey(), entry.getValue().get());
+        }
+
+        if (plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().info("Built " + prototypes.size() + " item prototype(s)");
+        }
+    }
+
+    /**
+     * Creates a copy of a registered item
+     * @param id Prototype ID
+     * @return A new ItemStack the caller may change freely
+     */
+    public ItemStack create(String id) {
+        ItemStack prototype = prototypes.get(id);
+        if (prototype == null) {
+            Supplier<ItemStack> factory = factories.get(id);
+            if (factory == null) {
+                throw new IllegalArgumentException("Unknown item prototype: " + id);
+            }
+            // Registered after the last rebuild
+            prototype = factory.get();
+            prototypes.put(id, prototype);
+        }
+        return prototype.clone();
+    }
+}
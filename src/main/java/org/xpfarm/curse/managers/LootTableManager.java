@@ -0,0 +1,130 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.managers;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.inventory.ItemStack;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.mechanics.CursedSpawnMechanic;
+import org.xpfarm.curse.models.LootTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the reward lists in the config into {@link LootTable}s, once at enable and
+ * again on reload.
+ *
+ * <p>Item strings are resolved here: {@code curse:<id>} names one of the plugin's own
+ * items (see {@link ItemPrototypeManager}), anything else is parsed as a vanilla item
+ * argument such as {@code minecraft:potion[potion_contents={potion:"minecraft:healing"}]}.
+ * Entries that do not resolve are skipped with a warning.
+ */
+public class LootTableManager {
+
+    /** ZP25 reward chests, from {@code rewards.chestLoot} */
+    public static final String CHEST_LOOT = "chestLoot";
+
+    private static final String CURSE_ITEM_PREFIX = "curse:";
+
+    private final CursePlugin plugin;
+    private Map<String, LootTable> tables;
+
+    public LootTableManager(CursePlugin plugin) {
+        this.plugin = plugin;
+        this.tables = Map.of();
+    }
+
+    /**
+     * Compiles every loot table, replacing the current ones. Call after the item
+     * prototypes are rebuilt.
+     */
+    public void loadTables() {
+        Map<String, LootTable> compiled = new HashMap<>();
+        ConfigurationSection config = plugin.getConfigManager().getConfig();
+
+        // Tiered: an item's weight is its tier's weight shared among the tier
+        List<ItemStack> items = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        ConfigurationSection tiers = config.getConfigurationSection("rewards.chestLoot");
+        if (tiers != null) {
+            for (String tier : tiers.getKeys(false)) {
+                List<ItemStack> tierItems = resolveAll(tiers.getStringList(tier), "rewards.chestLoot." + tier);
+                double tierWeight = config.getDouble("rewards.tierWeights." + tier, 1.0);
+                for (ItemStack item : tierItems) {
+                    items.add(item);
+                    weights.add(tierWeight / tierItems.size());
+                }
+            }
+        }
+        compiled.put(CHEST_LOOT, compile(items, weights, "rewards.chestLoot"));
+
+        // Flat: every item equally likely
+        String path = "mechanics.cs25p.reward.items";
+        List<ItemStack> spawnItems = resolveAll(config.getStringList(path), path);
+        compiled.put(CursedSpawnMechanic.MECHANIC_ID,
+            compile(spawnItems, Collections.nCopies(spawnItems.size(), 1.0), path));
+
+        tables = Map.copyOf(compiled);
+
+        if (plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().info("Compiled " + tables.size() + " loot table(s)");
+        }
+    }
+
+    /**
+     * Gets a loot table
+     * @param id {@link #CHEST_LOOT} or a mechanic ID
+     * @return The table, or {@link LootTable#EMPTY} if there is none
+     */
+    public LootTable getTable(String id) {
+        return tables.getOrDefault(id, LootTable.EMPTY);
+    }
+
+    private LootTable compile(List<ItemStack> items, List<Double> weights, String path) {
+        if (items.isEmpty()) {
+            plugin.getLogger().warning("No usable items in " + path + ", its rewards will be empty");
+            return LootTable.EMPTY;
+        }
+        try {
+            return new LootTable(items, weights);
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("Invalid weights for " + path + ": " + e.getMessage());
+            return LootTable.EMPTY;
+        }
+    }
+
+    private List<ItemStack> resolveAll(List<String> entries, String path) {
+        List<ItemStack> items = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            ItemStack item = resolve(entry);
+            if (item != null) {
+                items.add(item);
+            } else {
+                plugin.getLogger().warning("Ignoring '" + entry + "' in " + path + ": unknown item");
+            }
+        }
+        return items;
+    }
+
+    private ItemStack resolve(String entry) {
+        try {
+            if (entry.startsWith(CURSE_ITEM_PREFIX)) {
+                return plugin.getItemPrototypeManager().create(entry.substring(CURSE_ITEM_PREFIX.length()));
+            }
+            return plugin.getServer().getItemFactory().createItemStack(entry);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
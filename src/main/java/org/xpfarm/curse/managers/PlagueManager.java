@@ -2,22 +2,28 @@ package org.xpfarm.curse.managers;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Particle;
 import org.bukkit.World;
-import org.bukkit.attribute.Attribute;
-import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.block.Block;
 import org.bukkit.block.Chest;
 import org.bukkit.boss.BarColor;
 import org.bukkit.entity.*;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.PotionMeta;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.potion.PotionType;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.mechanics.CursedMechanic;
+import org.xpfarm.curse.mechanics.ZombieRoyaleMechanic;
+import org.xpfarm.curse.models.LootTable;
+import org.xpfarm.curse.models.MobSpec;
+import org.xpfarm.curse.models.ParticleEmitter;
 import org.xpfarm.curse.models.Plague;
+import org.xpfarm.curse.models.SessionSnapshot;
 import org.xpfarm.curse.utils.MessageUtil;
 
 import net.kyori.adventure.text.Component;
@@ -31,11 +37,40 @@ public class PlagueManager {
     private final CursePlugin plugin;
     private final Map<UUID, Plague> activePlagues;
     private final Random random;
+    private final NamespacedKey potionKey;
+
+    public static final String ANTIDOTE_ID = "curse_antidote";
+    public static final String UNDO_ID = "undo_potion";
+    public static final String CURSE_TRIGGER_ID = "curse_trigger";
+
+    private static final Component ANTIDOTE_NAME = Component.text("Curse Antidote", NamedTextColor.GREEN);
+    private static final List<Component> ANTIDOTE_LORE = List.of(
+        Component.text("Ends the current curse", NamedTextColor.GRAY),
+        Component.text("Use wisely!", NamedTextColor.YELLOW)
+    );
+
+    private static final Component UNDO_NAME = Component.text("Undo Potion", NamedTextColor.BLUE);
+    private static final List<Component> UNDO_LORE = List.of(
+        Component.text("Reverses damage from last round", NamedTextColor.GRAY),
+        Component.text("Very rare!", NamedTextColor.GOLD)
+    );
+
+    private static final Component CURSE_TRIGGER_NAME = Component.text("Curse Trigger", NamedTextColor.DARK_RED);
+    private static final List<Component> CURSE_TRIGGER_LORE = List.of(
+        Component.text("Drink at night to start The Curse", NamedTextColor.GRAY),
+        Component.text("Beware the undead plague!", NamedTextColor.RED)
+    );
 
     public PlagueManager(CursePlugin plugin) {
         this.plugin = plugin;
         this.activePlagues = new ConcurrentHashMap<>();
         this.random = new Random();
+        this.potionKey = new NamespacedKey(plugin, "curse_potion");
+
+        ItemPrototypeManager prototypes = plugin.getItemPrototypeManager();
+        prototypes.register(ANTIDOTE_ID, this::buildAntidotePotion);
+        prototypes.register(UNDO_ID, this::buildUndoPotion);
+        prototypes.register(CURSE_TRIGGER_ID, this::buildCurseTriggerPotion);
     }
 
     public boolean startPlague(Player player) {
@@ -76,6 +111,12 @@ public class PlagueManager {
             return false;
         }
 
+        // Claim the player; fails if another curse started for them in the meantime
+        if (!plugin.getCursedMechanicManager().claimPlayer(player.getUniqueId(), getMechanic())) {
+            MessageUtil.sendMessage(player, Component.text("You already have an active curse!", NamedTextColor.RED));
+            return false;
+        }
+
         // Create and start plague
         Plague plague = new Plague(player, plugin);
         activePlagues.put(player.getUniqueId(), plague);
@@ -90,7 +131,7 @@ public class PlagueManager {
         MessageUtil.sendMessage(player, Component.text("Kill all mobs in each round to progress!", NamedTextColor.YELLOW));
 
         // Start first wave
-        plague.spawnNextWave();
+        plague.start();
 
         // Start monitoring task
         startPlagueMonitoring(plague);
@@ -115,231 +156,294 @@ public class PlagueManager {
         activePlagues.clear();
     }
 
-    public boolean hasActivePlague(Player player) {
-        return activePlagues.containsKey(player.getUniqueId());
+    /**
+     * Suspends every active plague for shutdown, leaving its mobs in the world and its
+     * stats unrecorded so the session journal can resume it on the next start.
+     */
+    public void suspendAllPlagues() {
+        CursedMechanic mechanic = getMechanic();
+        for (Plague plague : activePlagues.values()) {
+            plague.suspend();
+            plugin.getCursedMechanicManager().releasePlayer(plague.getPlayerId(), mechanic);
+        }
+        activePlagues.clear();
     }
 
-    public Plague getPlague(Player player) {
-        return activePlagues.get(player.getUniqueId());
+    /**
+     * Captures a snapshot of every active plague for the session journal.
+     */
+    public List<SessionSnapshot> snapshotPlagues() {
+        List<SessionSnapshot> snapshots = new ArrayList<>(activePlagues.size());
+        for (Plague plague : activePlagues.values()) {
+            if (plague.isActive()) {
+                snapshots.add(plague.snapshot());
+            }
+        }
+        return snapshots;
     }
 
-    public void removePlague(UUID playerId) {
-        activePlagues.remove(playerId);
-    }
+    /**
+     * Resumes a journalled plague for a player who is back online.
+     * @return true if the plague was resumed
+     */
+    public boolean resumePlague(Player player, SessionSnapshot snapshot) {
+        if (hasActivePlague(player)) {
+            return false;
+        }
 
-    public void spawnMobsForPlague(Plague plague, int count) {
-        Player player = plague.getPlayer();
-        Location center = player.getLocation();
-        int spawnRadius = plugin.getConfigManager().getSpawnRadius();
+        World world = plugin.getServer().getWorld(snapshot.world());
+        if (world == null) {
+            return false;
+        }
 
-        // Set initial mob count for health bar progress tracking
-        plague.setInitialMobCount(count);
+        if (!plugin.getCursedMechanicManager().claimPlayer(player.getUniqueId(), getMechanic())) {
+            return false;
+        }
 
-        for (int i = 0; i < count; i++) {
-            // Calculate spawn location around player
-            double angle = random.nextDouble() * 2 * Math.PI;
-            double distance = spawnRadius + random.nextInt(10);
+        Location startLocation = new Location(world, snapshot.x(), snapshot.y(), snapshot.z());
+        Plague plague = new Plague(player, plugin, snapshot, startLocation);
+        activePlagues.put(player.getUniqueId(), plague);
 
-            double x = center.getX() + Math.cos(angle) * distance;
-            double z = center.getZ() + Math.sin(angle) * distance;
-            double y = center.getWorld().getHighestBlockYAt((int) x, (int) z) + 1;
+        if (plugin.getConfigManager().isVisualEffectsEnabled()) {
+            applyPlagueAura(player);
+        }
 
-            Location spawnLoc = new Location(center.getWorld(), x, y, z);
+        MessageUtil.sendMessage(player, Component.text("The curse stirs again - your progress has been restored!", NamedTextColor.GOLD));
 
-            // Spawn zombie with enhanced attributes
-            Zombie zombie = spawnEnhancedZombie(spawnLoc, plague.getCurrentRound());
-            if (zombie != null) {
-                plague.addMob(zombie);
+        plague.resume(snapshot);
+        startPlagueMonitoring(plague);
+        return true;
+    }
 
-                // Set target to plague player
-                zombie.setTarget(player);
+    public boolean hasActivePlague(Player player) {
+        return activePlagues.containsKey(player.getUniqueId());
+    }
 
-                if (plugin.getConfigManager().isLogMobSpawns()) {
-                    plugin.getLogger().info("Spawned enhanced zombie for " + player.getName() + " at round " + plague.getCurrentRound());
-                }
-            }
-        }
+    public Plague getPlague(Player player) {
+        return activePlagues.get(player.getUniqueId());
+    }
 
-        // Update health progress after all mobs are spawned
-        plague.updateHealthProgress();
+    public void removePlague(UUID playerId) {
+        if (activePlagues.remove(playerId) != null) {
+            plugin.getCursedMechanicManager().releasePlayer(playerId, getMechanic());
+        }
     }
 
-    private Zombie spawnEnhancedZombie(Location location, int round) {
-        World world = location.getWorld();
-        if (world == null) return null;
+    /**
+     * Get the ZP25 mechanic, which plagues are claimed under in the active-mechanic index
+     */
+    private CursedMechanic getMechanic() {
+        return plugin.getCursedMechanicManager().getMechanic(ZombieRoyaleMechanic.MECHANIC_ID);
+    }
 
-        Zombie zombie = (Zombie) world.spawnEntity(location, EntityType.ZOMBIE);
+    /**
+     * Spawns one mob of a plague's wave on the ring around its player. The plague
+     * tracks it.
+     * @param spec The mob to spawn, from the plague's wave plan
+     * @return The mob
+     */
+    public Mob spawnPlagueMob(Plague plague, MobSpec spec) {
+        Player player = plague.getPlayer();
+        Mob mob = spec.spawn(findSpawnLocation(plague), spawned -> plugin.getCurseMobManager().prepareMob(spawned, plague));
+        // Set target to plague player
+        mob.setTarget(player);
 
-        // Scale zombie based on round
-        double healthMultiplier = 1.0 + (round * 0.5);
-        AttributeInstance maxHealthAttr = zombie.getAttribute(Attribute.MAX_HEALTH);
-        if (maxHealthAttr != null) {
-            maxHealthAttr.setBaseValue(maxHealthAttr.getBaseValue() * healthMultiplier);
-            zombie.setHealth(maxHealthAttr.getValue());
+        if (plugin.getConfigManager().isLogMobSpawns()) {
+            plugin.getLogger().info("Spawned " + mob.getType().name().toLowerCase(Locale.ROOT) + " for "
+                + plague.getPlayerId() + " at round " + plague.getCurrentRound());
         }
+        return mob;
+    }
 
-        // Add speed based on round
-        if (round > 2) {
-            zombie.addPotionEffect(new PotionEffect(PotionEffectType.SPEED, Integer.MAX_VALUE, round - 2));
+    /**
+     * Turns a survivor of a plague's last wave into a mob of the new one and moves it
+     * back onto the ring around its player
+     * @param spec The mob it becomes, from the plague's wave plan
+     * @return false if it cannot become that mob and should be replaced instead
+     */
+    public boolean recyclePlagueMob(Plague plague, Mob mob, MobSpec spec) {
+        if (!spec.upgrade(mob)) {
+            return false;
         }
+        mob.teleport(findSpawnLocation(plague));
+        mob.setTarget(plague.getPlayer());
+        return true;
+    }
 
-        // Add armor for higher rounds
-        if (round > 3) {
-            giveZombieArmor(zombie, round);
-        }
+    private Location findSpawnLocation(Plague plague) {
+        Player player = plague.getPlayer();
+        Location center = player != null ? player.getLocation() : plague.getStartLocation();
+        int spawnRadius = plugin.getConfigManager().getSpawnRadius();
 
-        // Prevent entity from disappearing naturally
-        zombie.setPersistent(true);
+        // Calculate spawn location around player
+        double angle = random.nextDouble() * 2 * Math.PI;
+        double distance = spawnRadius + random.nextInt(10);
 
-        // Custom name
-        zombie.customName(Component.text("Cursed Zombie", NamedTextColor.RED));
-        zombie.setCustomNameVisible(true);
+        double x = center.getX() + Math.cos(angle) * distance;
+        double z = center.getZ() + Math.sin(angle) * distance;
+        double y = center.getWorld().getHighestBlockYAt((int) x, (int) z) + 1;
 
-        return zombie;
+        return new Location(center.getWorld(), x, y, z);
     }
 
-    private void giveZombieArmor(Zombie zombie, int round) {
-        zombie.getEquipment().setHelmet(new ItemStack(Material.IRON_HELMET));
-        if (round > 4) {
-            zombie.getEquipment().setChestplate(new ItemStack(Material.IRON_CHESTPLATE));
-        }
-        if (round > 5) {
-            zombie.getEquipment().setLeggings(new ItemStack(Material.IRON_LEGGINGS));
-            zombie.getEquipment().setBoots(new ItemStack(Material.IRON_BOOTS));
-        }
-        if (round > 6) {
-            zombie.getEquipment().setItemInMainHand(new ItemStack(Material.IRON_SWORD));
+    /**
+     * Hands out a cleared round's rewards: into the player's reward vault, or a chest
+     * beside them when {@code rewards.mode} is CHEST
+     */
+    public void spawnRewardChest(Plague plague) {
+        List<ItemStack> rewards = rollRewards(plague);
+        if (plugin.getRewardVaultManager().isVaultMode()) {
+            plugin.getRewardVaultManager().deposit(plague.getPlayerId(), rewards);
+            return;
         }
-    }
 
-    public void spawnRewardChest(Plague plague) {
         Player player = plague.getPlayer();
-        Location chestLoc = player.getLocation().clone().add(0, 0, 2);
+        Location origin = player != null ? player.getLocation() : plague.getStartLocation();
+        Location chestLoc = origin.clone().add(0, 0, 2);
 
         // Find suitable location for chest
         Block block = chestLoc.getWorld().getHighestBlockAt(chestLoc);
         block = block.getRelative(0, 1, 0);
 
         block.setType(Material.CHEST);
+        plugin.getRewardChestManager().track(block);
         Chest chest = (Chest) block.getState();
 
         // Fill chest with rewards
-        fillRewardChest(chest.getInventory(), plague);
+        chest.getInventory().addItem(rewards.toArray(new ItemStack[0]));
 
         // Add particle effects if enabled
         if (plugin.getConfigManager().isVisualEffectsEnabled()) {
-            addChestParticles(block.getLocation());
+            addChestParticles(block.getLocation(), plague);
         }
 
-        MessageUtil.sendMessage(player, Component.text("A reward chest has appeared!", NamedTextColor.GREEN));
+        if (player != null) {
+            MessageUtil.sendMessage(player, Component.text("A reward chest has appeared!", NamedTextColor.GREEN));
+        }
     }
 
-    private void fillRewardChest(Inventory inventory, Plague plague) {
+    private List<ItemStack> rollRewards(Plague plague) {
+        List<ItemStack> rewards = new ArrayList<>();
+
         // Add antidote if player completed first round and doesn't have one
         if (plague.getCurrentRound() == 1 || !plague.hasAntidote()) {
-            ItemStack antidote = createAntidotePotion();
-            inventory.addItem(antidote);
+            rewards.add(createAntidotePotion());
             plague.setHasAntidote(true);
         }
 
-        // Add random loot based on round
+        // Add random loot from the chest loot table
+        Random random = plague.getRandom();
+        LootTable loot = plugin.getLootTableManager().getTable(LootTableManager.CHEST_LOOT);
         int lootCount = 2 + random.nextInt(3); // 2-4 items
         for (int i = 0; i < lootCount; i++) {
-            ItemStack loot = generateRandomLoot(plague.getCurrentRound());
-            if (loot != null) {
-                inventory.addItem(loot);
+            ItemStack item = loot.roll(random);
+            if (item != null) {
+                rewards.add(item);
             }
         }
+        return rewards;
+    }
+
+    private ItemStack createAntidotePotion() {
+        return plugin.getItemPrototypeManager().create(ANTIDOTE_ID);
+    }
+
+    public ItemStack createCurseTriggerPotion() {
+        return plugin.getItemPrototypeManager().create(CURSE_TRIGGER_ID);
+    }
 
-        // Add undo potion for higher rounds (rare)
-        if (plague.getCurrentRound() > 3 && random.nextDouble() < 0.1) { // 10% chance
-            ItemStack undoPotion = createUndoPotion();
-            inventory.addItem(undoPotion);
+    /**
+     * Get the key every curse potion carries, holding its potion ID
+     * ({@link #ANTIDOTE_ID}, {@link #UNDO_ID} or {@link #CURSE_TRIGGER_ID})
+     * @return Potion type key
+     */
+    public NamespacedKey getPotionKey() {
+        return potionKey;
+    }
+
+    /**
+     * Tags a curse potion handed out before potions were tagged. Those are recognised by
+     * their exact name and lore together, which an anvil cannot forge.
+     * @param item Any item; untagged curse potions are tagged in place
+     * @return The potion's ID, or null if it is not an untagged curse potion
+     */
+    public String upgradeLegacyPotion(ItemStack item) {
+        if (item == null || item.getType() != Material.POTION || !item.hasItemMeta()) {
+            return null;
+        }
+        PotionMeta meta = (PotionMeta) item.getItemMeta();
+        if (meta.getPersistentDataContainer().has(potionKey, PersistentDataType.STRING)) {
+            return null;
+        }
+
+        Component name = meta.displayName();
+        List<Component> lore = meta.lore();
+        String potionId;
+        if (ANTIDOTE_NAME.equals(name) && ANTIDOTE_LORE.equals(lore)) {
+            potionId = ANTIDOTE_ID;
+        } else if (UNDO_NAME.equals(name) && UNDO_LORE.equals(lore)) {
+            potionId = UNDO_ID;
+        } else if (CURSE_TRIGGER_NAME.equals(name) && CURSE_TRIGGER_LORE.equals(lore)) {
+            potionId = CURSE_TRIGGER_ID;
+        } else {
+            return null;
         }
+
+        meta.getPersistentDataContainer().set(potionKey, PersistentDataType.STRING, potionId);
+        item.setItemMeta(meta);
+        return potionId;
     }
 
-    private ItemStack createAntidotePotion() {
+    private ItemStack buildAntidotePotion() {
         ItemStack potion = new ItemStack(Material.POTION);
         PotionMeta meta = (PotionMeta) potion.getItemMeta();
 
-        meta.displayName(Component.text("Curse Antidote", NamedTextColor.GREEN));
-        List<Component> lore = Arrays.asList(
-            Component.text("Ends the current curse", NamedTextColor.GRAY),
-            Component.text("Use wisely!", NamedTextColor.YELLOW)
-        );
-        meta.lore(lore);
+        meta.displayName(ANTIDOTE_NAME);
+        meta.lore(ANTIDOTE_LORE);
 
         // Create custom potion for healing appearance
         meta.setBasePotionType(PotionType.HEALING); // Base type for appearance
 
+        meta.getPersistentDataContainer().set(potionKey, PersistentDataType.STRING, ANTIDOTE_ID);
+
         potion.setItemMeta(meta);
         return potion;
     }
 
-    private ItemStack createUndoPotion() {
+    private ItemStack buildUndoPotion() {
         ItemStack potion = new ItemStack(Material.POTION);
         PotionMeta meta = (PotionMeta) potion.getItemMeta();
 
-        meta.displayName(Component.text("Undo Potion", NamedTextColor.BLUE));
-        List<Component> lore = Arrays.asList(
-            Component.text("Reverses damage from last round", NamedTextColor.GRAY),
-            Component.text("Very rare!", NamedTextColor.GOLD)
-        );
-        meta.lore(lore);
+        meta.displayName(UNDO_NAME);
+        meta.lore(UNDO_LORE);
 
         meta.setBasePotionType(PotionType.HEALING);
 
+        meta.getPersistentDataContainer().set(potionKey, PersistentDataType.STRING, UNDO_ID);
+
         potion.setItemMeta(meta);
         return potion;
     }
 
-    public static ItemStack createCurseTriggerPotion() {
+    private ItemStack buildCurseTriggerPotion() {
         ItemStack potion = new ItemStack(Material.POTION);
         PotionMeta meta = (PotionMeta) potion.getItemMeta();
 
-        meta.displayName(Component.text("Curse Trigger", NamedTextColor.DARK_RED));
-        List<Component> lore = Arrays.asList(
-            Component.text("Drink at night to start The Curse", NamedTextColor.GRAY),
-            Component.text("Beware the undead plague!", NamedTextColor.RED)
-        );
-        meta.lore(lore);
+        meta.displayName(CURSE_TRIGGER_NAME);
+        meta.lore(CURSE_TRIGGER_LORE);
 
         meta.setBasePotionType(PotionType.AWKWARD); // Base type for appearance
         meta.addCustomEffect(new PotionEffect(PotionEffectType.BAD_OMEN, 1, 0), true);
 
+        meta.getPersistentDataContainer().set(potionKey, PersistentDataType.STRING, CURSE_TRIGGER_ID);
+
         potion.setItemMeta(meta);
         return potion;
     }
 
-    private ItemStack generateRandomLoot(int round) {
-        List<Material> commonLoot = Arrays.asList(
-            Material.BREAD, Material.COOKED_BEEF, Material.GOLDEN_APPLE
-        );
-
-        List<Material> uncommonLoot = Arrays.asList(
-            Material.ENCHANTED_BOOK, Material.DIAMOND, Material.IRON_INGOT
-        );
-
-        List<Material> rareLoot = Arrays.asList(
-            Material.TOTEM_OF_UNDYING, Material.NETHERITE_INGOT, Material.DRAGON_EGG
-        );
-
-        double rand = random.nextDouble();
-        Material material;
-
-        if (rand < 0.6) { // 60% common
-            material = commonLoot.get(random.nextInt(commonLoot.size()));
-        } else if (rand < 0.85) { // 25% uncommon
-            material = uncommonLoot.get(random.nextInt(uncommonLoot.size()));
-        } else { // 15% rare
-            material = rareLoot.get(random.nextInt(rareLoot.size()));
-        }
-
-        return new ItemStack(material, 1);
-    }
-
     public void applyPoisonPenalty(Plague plague) {
         Player player = plague.getPlayer();
+        if (player == null) return;
 
         // Apply deadly poison
         player.addPotionEffect(new PotionEffect(PotionEffectType.POISON, Integer.MAX_VALUE, 1));
@@ -353,26 +457,10 @@ public class PlagueManager {
         player.addPotionEffect(new PotionEffect(PotionEffectType.GLOWING, Integer.MAX_VALUE, 0, true));
     }
 
-    private void addChestParticles(Location location) {
-        // Schedule particle effects
-        new BukkitRunnable() {
-            int ticks = 0;
-
-            @Override
-            public void run() {
-                if (ticks++ > 100) { // 5 seconds
-                    cancel();
-                    return;
-                }
-
-                // Spawn particles around chest
-                location.getWorld().spawnParticle(
-                    org.bukkit.Particle.ENCHANT,
-                    location.clone().add(0.5, 1, 0.5),
-                    10, 0.5, 0.5, 0.5, 0.1
-                );
-            }
-        }.runTaskTimer(plugin, 0L, 2L);
+    private void addChestParticles(Location location, Plague plague) {
+        // Enchanting sparkle around the chest for 5 seconds
+        plugin.getEffectManager().submit(new ParticleEmitter(location.clone().add(0.5, 1, 0.5),
+            Particle.ENCHANT, 10, 0.5, 0.1, 2, 100), plague);
     }
 
     private boolean isValidLocation(Location location) {
@@ -396,12 +484,15 @@ public class PlagueManager {
                 }
 
                 Player player = plague.getPlayer();
-                if (!player.isOnline()) {
+                if (player == null || !player.isOnline()) {
                     plague.endPlague(false);
                     cancel();
                     return;
                 }
 
+                // Drop mobs that vanished without a death event
+                plague.pruneDeadMobs();
+
                 // Update boss bar visibility for all players in radius
                 plague.updateBossBarVisibility();
 
@@ -0,0 +1,252 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.managers;
+
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.Chest;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitTask;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.utils.BlockKeys;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Registry of the reward chests placed in {@code rewards.mode: CHEST}, so they do not
+ * stay in the world for good.
+ *
+ * <p>Each world's chests are kept by packed block position with their expiry time, and
+ * mirrored to the world's own data so the registry survives a restart. A chest is
+ * removed once it is emptied or {@code rewards.chestTtlMinutes} pass. Expired chests are
+ * queued by a slow sweep and removed {@code rewards.chestRemovalsPerTick} per tick; a
+ * chest in an unloaded chunk has its chunk loaded asynchronously first. A chest that
+ * stood in a curse arena is reported to the {@link ArenaRestoreManager} once it is gone,
+ * so its block is set back with the rest of the arena.
+ */
+public class RewardChestManager {
+
+    private static final long SWEEP_INTERVAL_TICKS = 200L; // 10 seconds
+
+    private final CursePlugin plugin;
+    private final NamespacedKey chestsKey;
+    private final Map<UUID, Map<Long, Long>> chests;
+    private final ArrayDeque<QueuedChest> removalQueue;
+    private final Set<QueuedChest> queued;
+    private BukkitTask sweepTask;
+    private BukkitTask removalTask;
+
+    private record QueuedChest(UUID worldId, long key) {}
+
+    public RewardChestManager(CursePlugin plugin) {
+        this.plugin = plugin;
+        this.chestsKey = new NamespacedKey(plugin, "reward_chests");
+        this.chests = new HashMap<>();
+        this.removalQueue = new ArrayDeque<>();
+        this.queued = new HashSet<>();
+    }
+
+    /**
+     * Loads the registries of every loaded world and starts the expiry sweep
+     */
+    public void start() {
+        for (World world : plugin.getServer().getWorlds()) {
+            loadWorld(world);
+        }
+        sweepTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::sweep,
+            SWEEP_INTERVAL_TICKS, SWEEP_INTERVAL_TICKS);
+    }
+
+    /**
+     * Stops the sweep. The registries are already on the worlds' data.
+     */
+    public void stop() {
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+        if (removalTask != null) {
+            removalTask.cancel();
+            removalTask = null;
+        }
+    }
+
+    /**
+     * Reads a world's registry from its data. Called for worlds loaded after enable.
+     */
+    public void loadWorld(World world) {
+        long[] entries = world.getPersistentDataContainer().get(chestsKey, PersistentDataType.LONG_ARRAY);
+        if (entries == null) return;
+
+        Map<Long, Long> worldChests = new HashMap<>();
+        for (int i = 0; i + 1 < entries.length; i += 2) {
+            worldChests.put(entries[i], entries[i + 1]);
+        }
+        chests.put(world.getUID(), worldChests);
+    }
+
+    /**
+     * Drops a world's registry from memory when it unloads
+     */
+    public void unloadWorld(World world) {
+        chests.remove(world.getUID());
+    }
+
+    /**
+     * Registers a chest the plugin just placed
+     * @param block The chest block
+     */
+    public void track(Block block) {
+        World world = block.getWorld();
+        long ttlMillis = plugin.getConfigManager().getRewardChestTtlMinutes() * 60_000L;
+        chests.computeIfAbsent(world.getUID(), id -> new HashMap<>())
+            .put(BlockKeys.pack(block.getX(), block.getY(), block.getZ()), System.currentTimeMillis() + ttlMillis);
+        save(world);
+    }
+
+    /**
+     * Whether a block is a reward chest the plugin placed
+     */
+    public boolean isTracked(Block block) {
+        return isTracked(block.getWorld(), block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Whether a block position holds a reward chest the plugin placed, without loading it
+     */
+    public boolean isTracked(World world, int x, int y, int z) {
+        Map<Long, Long> worldChests = chests.get(world.getUID());
+        return worldChests != null && worldChests.containsKey(BlockKeys.pack(x, y, z));
+    }
+
+    /**
+     * Removes a tracked chest now, e.g. once it has been emptied
+     * @param block The chest block
+     */
+    public void remove(Block block) {
+        if (untrack(block.getWorld(), BlockKeys.pack(block.getX(), block.getY(), block.getZ()))) {
+            clear(block);
+        }
+    }
+
+    /**
+     * Forgets a tracked chest without touching the block, e.g. when a player breaks it
+     * @param block The chest block
+     */
+    public void forget(Block block) {
+        untrack(block.getWorld(), BlockKeys.pack(block.getX(), block.getY(), block.getZ()));
+    }
+
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<UUID, Map<Long, Long>> world : chests.entrySet()) {
+            for (Map.Entry<Long, Long> chest : world.getValue().entrySet()) {
+                if (chest.getValue() <= now) {
+                    QueuedChest entry = new QueuedChest(world.getKey(), chest.getKey());
+                    if (queued.add(entry)) {
+                        removalQueue.add(entry);
+                    }
+                }
+            }
+        }
+
+        if (!removalQueue.isEmpty() && removalTask == null) {
+            removalTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::removeBatch, 1L, 1L);
+        }
+    }
+
+    private void removeBatch() {
+        int batchSize = Math.max(1, plugin.getConfigManager().getRewardChestRemovalsPerTick());
+        int removed = 0;
+        while (removed < batchSize && !removalQueue.isEmpty()) {
+            QueuedChest entry = removalQueue.poll();
+            World world = plugin.getServer().getWorld(entry.worldId());
+            if (world == null) {
+                // Unloaded since it was queued; the next load picks it up again
+                queued.remove(entry);
+                continue;
+            }
+
+            int x = BlockKeys.x(entry.key());
+            int y = BlockKeys.y(entry.key());
+            int z = BlockKeys.z(entry.key());
+            if (world.isChunkLoaded(x >> 4, z >> 4)) {
+                expire(world, entry, x, y, z);
+            } else {
+                // Completes on the main thread once the chunk is loaded
+                world.getChunkAtAsync(x >> 4, z >> 4).thenRun(() -> expire(world, entry, x, y, z));
+            }
+            removed++;
+        }
+
+        if (removed > 0 && plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().info("Expiring " + removed + " reward chest(s)");
+        }
+
+        if (removalQueue.isEmpty()) {
+            removalTask.cancel();
+            removalTask = null;
+        }
+    }
+
+    private void expire(World world, QueuedChest entry, int x, int y, int z) {
+        queued.remove(entry);
+        if (untrack(world, entry.key())) {
+            clear(world.getBlockAt(x, y, z));
+        }
+    }
+
+    private boolean untrack(World world, long key) {
+        Map<Long, Long> worldChests = chests.get(world.getUID());
+        if (worldChests == null || worldChests.remove(key) == null) {
+            return false;
+        }
+        if (worldChests.isEmpty()) {
+            chests.remove(world.getUID());
+        }
+        save(world);
+        // Chests placed in a curse's arena leave a hole unless the arena fills it
+        plugin.getArenaRestoreManager().onRewardChestGone(world, BlockKeys.x(key), BlockKeys.y(key), BlockKeys.z(key));
+        return true;
+    }
+
+    private void clear(Block block) {
+        // Only ever remove a chest; the block may have been replaced since
+        if (block.getType() != Material.CHEST) return;
+
+        if (block.getState(false) instanceof Chest chest) {
+            chest.getBlockInventory().clear();
+        }
+        block.setType(Material.AIR);
+    }
+
+    private void save(World world) {
+        Map<Long, Long> worldChests = chests.get(world.getUID());
+        if (worldChests == null || worldChests.isEmpty()) {
+            world.getPersistentDataContainer().remove(chestsKey);
+            return;
+        }
+
+        long[] entries = new long[worldChests.size() * 2];
+        int i = 0;
+        for (Map.Entry<Long, Long> chest : worldChests.entrySet()) {
+            entries[i++] = chest.getKey();
+            entries[i++] = chest.getValue();
+        }
+        world.getPersistentDataContainer().set(chestsKey, PersistentDataType.LONG_ARRAY, entries);
+    }
+}
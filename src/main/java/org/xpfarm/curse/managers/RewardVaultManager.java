@@ -0,0 +1,304 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.managers;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.models.RewardVault;
+import org.xpfarm.curse.utils.EntityResolver;
+import org.xpfarm.curse.utils.MessageUtil;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.event.ClickEvent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds curse rewards for each player until they claim them, instead of placing reward
+ * chests in the world.
+ *
+ * <p>Unclaimed rewards are kept on the player's own data, so they survive a restart and
+ * cost nothing while the player is offline. Rewards earned while the player is offline
+ * wait in {@code pending_rewards.dat} and are moved there when they join.
+ * {@code /curse rewards} opens a {@link RewardVault} that only its owner sees. The
+ * player's data stays the authoritative copy while it is open: it is rewritten at the
+ * end of every tick in which something was taken or deposited, so a crash or an autosave
+ * can neither lose rewards nor let them be claimed twice.
+ */
+public class RewardVaultManager {
+
+    /**
+     * How a session's rewards reach its player
+     */
+    public enum RewardMode {
+        /** Deposit into the player's reward vault. */
+        VAULT,
+        /** Place a chest in the world, as earlier versions did. */
+        CHEST
+    }
+
+    private final CursePlugin plugin;
+    private final NamespacedKey vaultKey;
+    private final Map<UUID, List<ItemStack>> pending;
+    private final Map<UUID, RewardVault> openVaults;
+    // Open vaults changed this tick, written back to their player's data once it ends
+    private final Set<RewardVault> dirtyVaults;
+    private final File pendingFile;
+
+    // Only the newest submitted write of the pending file may reach the disk
+    private final AtomicLong writeGeneration;
+
+    public RewardVaultManager(CursePlugin plugin) {
+        this.plugin = plugin;
+        this.vaultKey = new NamespacedKey(plugin, "reward_vault");
+        this.pending = new HashMap<>();
+        this.openVaults = new HashMap<>();
+        this.dirtyVaults = new HashSet<>();
+        this.pendingFile = new File(plugin.getDataFolder(), "pending_rewards.dat");
+        this.writeGeneration = new AtomicLong();
+    }
+
+    /**
+     * Loads the rewards still waiting for offline players. Called once on enable.
+     */
+    public void loadPending() {
+        pending.clear();
+        if (!pendingFile.exists()) return;
+
+        try {
+            for (String line : Files.readAllLines(pendingFile.toPath(), StandardCharsets.UTF_8)) {
+                String[] parts = line.split(" ", 2);
+                if (parts.length != 2) continue;
+                try {
+                    List<ItemStack> items = new ArrayList<>();
+                    for (ItemStack item : ItemStack.deserializeItemsFromBytes(Base64.getDecoder().decode(parts[1]))) {
+                        if (item != null && !item.isEmpty()) {
+                            items.add(item);
+                        }
+                    }
+                    if (!items.isEmpty()) {
+                        pending.put(UUID.fromString(parts[0]), items);
+                    }
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Skipping unreadable pending rewards for " + parts[0]);
+                }
+            }
+        } catch (IOException e) {
+            plugin.getLogger().severe("Could not load pending rewards: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Whether rewards go to the vault rather than a chest
+     */
+    public boolean isVaultMode() {
+        return plugin.getConfigManager().getRewardMode() == RewardMode.VAULT;
+    }
+
+    /**
+     * Adds rewards to a player's vault and tells them how to claim them
+     * @param playerId The player
+     * @param rewards The rewards; the vault takes ownership of them
+     */
+    public void deposit(UUID playerId, List<ItemStack> rewards) {
+        if (rewards.isEmpty()) return;
+
+        Player player = EntityResolver.player(playerId);
+        RewardVault open = openVaults.get(playerId);
+        if (open != null) {
+            open.addOverflow(rewards);
+            markChanged(open);
+        } else if (player != null) {
+            List<ItemStack> stored = load(player.getPersistentDataContainer());
+            stored.addAll(rewards);
+            save(player.getPersistentDataContainer(), stored);
+        } else {
+            pending.computeIfAbsent(playerId, id -> new ArrayList<>()).addAll(rewards);
+            savePending(false);
+            return;
+        }
+
+        if (player != null) {
+            sendClaimMessage(player);
+        }
+    }
+
+    /**
+     * Moves rewards earned while a player was offline into their vault. Called on join.
+     */
+    public void deliverPending(Player player) {
+        List<ItemStack> rewards = pending.remove(player.getUniqueId());
+        if (rewards != null) {
+            deposit(player.getUniqueId(), rewards);
+            savePending(false);
+        }
+    }
+
+    /**
+     * Opens a player's vault
+     * @param player The player
+     */
+    public void open(Player player) {
+        PersistentDataContainer data = player.getPersistentDataContainer();
+        List<ItemStack> stored = load(data);
+        if (stored.isEmpty()) {
+            MessageUtil.sendMessage(player, Component.text("You have no unclaimed curse rewards.", NamedTextColor.GRAY));
+            return;
+        }
+
+        // The player's data keeps the rewards while shown; every change is written back
+        RewardVault vault = new RewardVault(plugin.getServer(), player.getUniqueId(), stored);
+        openVaults.put(player.getUniqueId(), vault);
+        player.openInventory(vault.getInventory());
+    }
+
+    /**
+     * Notes that an open vault's contents changed. Its player's data is rewritten on the
+     * next tick, once the inventory has settled.
+     * @param vault The vault
+     */
+    public void markChanged(RewardVault vault) {
+        if (dirtyVaults.isEmpty()) {
+            plugin.getServer().getScheduler().runTask(plugin, this::writeBackChanged);
+        }
+        dirtyVaults.add(vault);
+    }
+
+    /**
+     * Writes back what was left in a vault when it closes
+     * @param vault The closed vault
+     */
+    public void close(RewardVault vault) {
+        dirtyVaults.remove(vault);
+        if (openVaults.remove(vault.getOwnerId(), vault)) {
+            writeBack(vault);
+        }
+    }
+
+    /**
+     * Closes every open vault, writing back its contents, and writes the pending rewards.
+     * Called on disable.
+     */
+    public void closeAll() {
+        for (RewardVault vault : new ArrayList<>(openVaults.values())) {
+            close(vault);
+            Player player = EntityResolver.player(vault.getOwnerId());
+            if (player != null) {
+                player.closeInventory();
+            }
+        }
+        savePending(true);
+    }
+
+    private void writeBackChanged() {
+        for (RewardVault vault : dirtyVaults) {
+            if (openVaults.get(vault.getOwnerId()) == vault) {
+                writeBack(vault);
+            }
+        }
+        dirtyVaults.clear();
+    }
+
+    private void writeBack(RewardVault vault) {
+        List<ItemStack> remaining = vault.remaining();
+        Player player = EntityResolver.player(vault.getOwnerId());
+        if (player != null) {
+            save(player.getPersistentDataContainer(), remaining);
+        }
+    }
+
+    /**
+     * Writes the rewards waiting for offline players
+     * @param sync Whether to write on this thread, e.g. on disable where async tasks no
+     *             longer run
+     */
+    private void savePending(boolean sync) {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<UUID, List<ItemStack>> entry : pending.entrySet()) {
+            lines.add(entry.getKey() + " " + Base64.getEncoder().encodeToString(
+                ItemStack.serializeItemsAsBytes(entry.getValue())));
+        }
+
+        long generation = writeGeneration.incrementAndGet();
+        if (sync) {
+            writePending(generation, lines);
+        } else {
+            plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> writePending(generation, lines));
+        }
+    }
+
+    private synchronized void writePending(long generation, List<String> lines) {
+        if (generation != writeGeneration.get()) {
+            return; // A newer write has been submitted
+        }
+
+        try {
+            Path target = pendingFile.toPath();
+            if (lines.isEmpty()) {
+                Files.deleteIfExists(target);
+                return;
+            }
+            Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling(pendingFile.getName() + ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().severe("Could not save pending rewards: " + e.getMessage());
+        }
+    }
+
+    private void sendClaimMessage(Player player) {
+        MessageUtil.sendMessage(player, Component.text("Rewards added to your vault! ", NamedTextColor.GREEN)
+            .append(Component.text("[Open]", NamedTextColor.GOLD)
+                .clickEvent(ClickEvent.runCommand("/curse rewards"))
+                .hoverEvent(HoverEvent.showText(Component.text("/curse rewards", NamedTextColor.GRAY)))));
+    }
+
+    private List<ItemStack> load(PersistentDataContainer data) {
+        List<ItemStack> items = new ArrayList<>();
+        byte[] bytes = data.get(vaultKey, PersistentDataType.BYTE_ARRAY);
+        if (bytes != null) {
+            for (ItemStack item : ItemStack.deserializeItemsFromBytes(bytes)) {
+                if (item != null && !item.isEmpty()) {
+                    items.add(item);
+                }
+            }
+        }
+        return items;
+    }
+
+    private void save(PersistentDataContainer data, List<ItemStack> items) {
+        if (items.isEmpty()) {
+            data.remove(vaultKey);
+        } else {
+            data.set(vaultKey, PersistentDataType.BYTE_ARRAY, ItemStack.serializeItemsAsBytes(items));
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.managers;
+
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.mechanics.CursedMechanic;
+import org.xpfarm.curse.models.SessionSnapshot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Checkpoints every active curse session to {@code sessions.journal} so a restart or
+ * crash mid-event costs the player nothing.
+ *
+ * <p>Snapshots are taken on the main thread, where session state lives, and written by
+ * an async task; an idle server does not rewrite the journal at all. On shutdown the sessions are
+ * suspended rather than ended, and on the next start each journalled session is resumed
+ * as soon as its player is online. A session whose player does not return within
+ * {@code persistence.resumeWindowMinutes} is dropped.
+ */
+public class SessionJournalManager {
+
+    private final CursePlugin plugin;
+    private final File journalFile;
+
+    // Journalled sessions waiting for their player to come back online
+    private final Map<UUID, SessionSnapshot> pendingResumes;
+
+    // Only the newest submitted write may reach the disk
+    private final AtomicLong writeGeneration;
+    private volatile List<String> lastWritten;
+    private BukkitTask checkpointTask;
+
+    public SessionJournalManager(CursePlugin plugin) {
+        this.plugin = plugin;
+        this.journalFile = new File(plugin.getDataFolder(), "sessions.journal");
+        this.pendingResumes = new HashMap<>();
+        this.writeGeneration = new AtomicLong();
+        this.lastWritten = List.of();
+    }
+
+    /**
+     * Reads the journal left by the previous run, resumes sessions for players who are
+     * already online, and starts the periodic checkpoint task.
+     */
+    public void loadJournal() {
+        pendingResumes.clear();
+        if (journalFile.exists()) {
+            try {
+                for (String line : Files.readAllLines(journalFile.toPath(), StandardCharsets.UTF_8)) {
+                    SessionSnapshot snapshot = SessionSnapshot.decode(line);
+                    if (snapshot != null) {
+                        pendingResumes.put(snapshot.playerId(), snapshot);
+                    }
+                }
+            } catch (IOException e) {
+                plugin.getLogger().severe("Could not load session journal: " + e.getMessage());
+            }
+        }
+        expirePendingResumes();
+
+        if (!pendingResumes.isEmpty()) {
+            plugin.getLogger().info("Found " + pendingResumes.size() + " curse session(s) to resume");
+        }
+
+        // Covers /reload, where players are already online
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            resumePending(player);
+        }
+
+        if (checkpointTask != null) {
+            checkpointTask.cancel();
+        }
+        long interval = Math.max(1, plugin.getConfigManager().getJournalIntervalSeconds()) * 20L;
+        checkpointTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::checkpoint, interval, interval);
+    }
+
+    /**
+     * Resumes the journalled session for a player, if one is waiting.
+     * @return true if a session was resumed
+     */
+    public boolean resumePending(Player player) {
+        SessionSnapshot snapshot = pendingResumes.remove(player.getUniqueId());
+        if (snapshot == null || isExpired(snapshot, System.currentTimeMillis())) {
+            return false;
+        }
+
+        CursedMechanic mechanic = plugin.getCursedMechanicManager().getMechanic(snapshot.mechanicId());
+        if (mechanic == null || !mechanic.resumeSession(player, snapshot)) {
+            plugin.getLogger().warning("Could not resume " + snapshot.mechanicId() + " session for " + player.getName());
+            return false;
+        }
+
+        plugin.getLogger().info("Resumed " + snapshot.mechanicId() + " session for " + player.getName()
+            + " at round " + snapshot.round());
+        return true;
+    }
+
+    /**
+     * Discards a journalled session without resuming it, e.g. when the player has
+     * already been penalised for leaving mid-curse.
+     */
+    public void discardPending(UUID playerId) {
+        pendingResumes.remove(playerId);
+    }
+
+    /**
+     * Checks whether a journalled session is still waiting for its player. Its mobs must
+     * survive until then.
+     */
+    public boolean hasPendingSession(UUID sessionId) {
+        for (SessionSnapshot snapshot : pendingResumes.values()) {
+            if (snapshot.sessionId().equals(sessionId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes a final checkpoint synchronously and suspends every session. Called from
+     * {@code onDisable} in place of ending the sessions.
+     */
+    public void shutdown() {
+        if (checkpointTask != null) {
+            checkpointTask.cancel();
+            checkpointTask = null;
+        }
+
+        List<String> lines = collectLines();
+        write(writeGeneration.incrementAndGet(), lines);
+
+        for (CursedMechanic mechanic : plugin.getCursedMechanicManager().getAllMechanics().values()) {
+            mechanic.suspendSessions();
+        }
+    }
+
+    private void checkpoint() {
+        List<String> lines = collectLines();
+        if (lines.equals(lastWritten)) {
+            return;
+        }
+        lastWritten = lines;
+
+        long generation = writeGeneration.incrementAndGet();
+        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> write(generation, lines));
+    }
+
+    private List<String> collectLines() {
+        expirePendingResumes();
+
+        List<String> lines = new ArrayList<>();
+        for (CursedMechanic mechanic : plugin.getCursedMechanicManager().getAllMechanics().values()) {
+            for (SessionSnapshot snapshot : mechanic.snapshotSessions()) {
+                lines.add(snapshot.encode());
+            }
+        }
+
+        // Keep sessions still waiting for their player, or a second restart would lose them
+        for (SessionSnapshot snapshot : pendingResumes.values()) {
+            lines.add(snapshot.encode());
+        }
+        return lines;
+    }
+
+    private synchronized void write(long generation, Collection<String> lines) {
+        if (generation != writeGeneration.get()) {
+            return; // A newer checkpoint has been submitted
+        }
+
+        try {
+            Path target = journalFile.toPath();
+            Files.createDirectories(target.getParent());
+            Path temp = target.resolveSibling(journalFile.getName() + ".tmp");
+            Files.write(temp, lines, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            lastWritten = List.of(); // Retry on the next checkpoint
+            plugin.getLogger().severe("Could not write session journal: " + e.getMessage());
+        }
+    }
+
+    private void expirePendingResumes() {
+        long now = System.currentTimeMillis();
+        for (Iterator<SessionSnapshot> it = pendingResumes.values().iterator(); it.hasNext(); ) {
+            if (isExpired(it.next(), now)) {
+                it.remove();
+            }
+        }
+    }
+
+    private boolean isExpired(SessionSnapshot snapshot, long now) {
+        long window = plugin.getConfigManager().getResumeWindowMinutes() * 60 * 1000L;
+        return now - snapshot.savedAt() > window;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.managers;
+
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Zombie;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.models.MobSpec;
+import org.xpfarm.curse.models.WavePlan;
+import org.xpfarm.curse.models.WaveSpec;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiles the {@code waves} section of the config into immutable {@link WavePlan}s, once
+ * at enable and again on reload. Entity types, equipment and effects are resolved here,
+ * so spawning a wave mob does no parsing. Entries that do not resolve are skipped with a
+ * warning; a plan left with no usable waves falls back to a single wave of zombies.
+ *
+ * <p>Configs from before wave plans set CS25P's waves under
+ * {@code mechanics.cs25p.spawner}. While the config has no {@code waves.cs25p} of its own,
+ * those settings are migrated into an equivalent plan with a warning, rather than being
+ * silently replaced by the default plan.
+ */
+public class WavePlanManager {
+
+    private static final String SECTION = "waves";
+    private static final String LEGACY_CS25P_SPAWNER = "mechanics.cs25p.spawner";
+
+    private final CursePlugin plugin;
+    private final WavePlan fallbackPlan;
+    private Map<String, WavePlan> plans;
+
+    public WavePlanManager(CursePlugin plugin) {
+        this.plugin = plugin;
+        this.plans = Map.of();
+
+        MobSpec zombie = new MobSpec(Zombie.class, false, 1.0, null, Map.of(), null);
+        this.fallbackPlan = new WavePlan(List.of(new WaveSpec(4, 0, 4, 100L, 0L, List.of(zombie))), null);
+    }
+
+    /**
+     * Compiles every plan in the config, replacing the current ones
+     */
+    public void loadPlans() {
+        Map<String, WavePlan> compiled = new HashMap<>();
+        FileConfiguration config = plugin.getConfigManager().getConfig();
+        ConfigurationSection waves = config.getConfigurationSection(SECTION);
+        if (waves != null) {
+            for (String mechanicId : waves.getKeys(false)) {
+                ConfigurationSection section = waves.getConfigurationSection(mechanicId);
+                if (section != null) {
+                    compiled.put(mechanicId.toUpperCase(Locale.ROOT), compilePlan(section));
+                }
+            }
+        }
+
+        // The default waves.cs25p only fills in for a config that does not set it itself
+        ConfigurationSection spawner = config.getConfigurationSection(LEGACY_CS25P_SPAWNER);
+        if (spawner != null && !config.contains(SECTION + ".cs25p", true)) {
+            plugin.getLogger().warning(LEGACY_CS25P_SPAWNER + " is no longer read; using its settings as the "
+                + SECTION + ".cs25p plan. Move them to " + SECTION + ".cs25p to silence this warning");
+            compiled.put("CS25P", compilePlan(migrateSpawner(spawner)));
+        }
+        plans = Map.copyOf(compiled);
+
+        if (plugin.getConfigManager().isDebugEnabled()) {
+            plugin.getLogger().info("Compiled " + plans.size() + " wave plan(s)");
+        }
+    }
+
+    /**
+     * Gets a mechanic's wave plan
+     * @param mechanicId The mechanic ID
+     * @return The plan, or a single wave of zombies if the config has none
+     */
+    public WavePlan getPlan(String mechanicId) {
+        WavePlan plan = plans.get(mechanicId);
+        return plan != null ? plan : fallbackPlan;
+    }
+
+    private WavePlan compilePlan(ConfigurationSection section) {
+        String path = section.getCurrentPath();
+        List<WaveSpec> waves = new ArrayList<>();
+        List<Map<?, ?>> entries = section.getMapList("rounds");
+        for (int i = 0; i < entries.size(); i++) {
+            WaveSpec wave = compileWave(toSection(entries.get(i)), path + ".rounds[" + (i + 1) + "]");
+            if (wave != null) {
+                waves.add(wave);
+            }
+        }
+
+        WaveSpec finalWave = null;
+        ConfigurationSection finalSection = section.getConfigurationSection("finalWave");
+        if (finalSection != null) {
+            finalWave = compileWave(finalSection, path + ".finalWave");
+        }
+
+        if (waves.isEmpty()) {
+            plugin.getLogger().warning("No usable waves in " + path + ", using a single wave of zombies");
+            return fallbackPlan;
+        }
+        return new WavePlan(waves, finalWave);
+    }
+
+    private WaveSpec compileWave(ConfigurationSection section, String path) {
+        List<MobSpec> mobs = new ArrayList<>();
+        for (Map<?, ?> entry : section.getMapList("mobs")) {
+            ConfigurationSection mob = toSection(entry);
+            MobSpec spec = compileMob(mob, path);
+            if (spec != null) {
+                // Expand the share into slots
+                int share = Math.max(1, mob.getInt("share", 1));
+                mobs.addAll(Collections.nCopies(share, spec));
+            }
+        }
+
+        if (mobs.isEmpty()) {
+            plugin.getLogger().warning("Skipping " + path + ": no usable mobs");
+            return null;
+        }
+
+        int count = Math.max(0, section.getInt("count", 4));
+        return new WaveSpec(count, Math.max(0, section.getInt("perLevel", 0)),
+            section.getInt("maxCount", count), Math.max(1L, section.getLong("delay", 100L)),
+            Math.max(0L, section.getLong("interval", 0L)), mobs);
+    }
+
+    private MobSpec compileMob(ConfigurationSection section, String path) {
+        String typeName = section.getString("type", "zombie");
+        EntityType type = parseEnum(EntityType.class, typeName);
+        Class<?> entityClass = type != null ? type.getEntityClass() : null;
+        if (entityClass == null || !Mob.class.isAssignableFrom(entityClass)) {
+            plugin.getLogger().warning("Skipping mob in " + path + ": '" + typeName + "' is not a mob type");
+            return null;
+        }
+
+        int speedLevel = section.getInt("speed", 0);
+        PotionEffect speed = speedLevel > 0
+            ? new PotionEffect(PotionEffectType.SPEED, PotionEffect.INFINITE_DURATION, speedLevel - 1)
+            : null;
+
+        Map<EquipmentSlot, ItemStack> equipment = new EnumMap<>(EquipmentSlot.class);
+        for (String itemName : section.getStringList("equipment")) {
+            Material material = Material.matchMaterial(itemName);
+            if (material == null || !material.isItem()) {
+                plugin.getLogger().warning("Ignoring equipment '" + itemName + "' in " + path + ": unknown item");
+                continue;
+            }
+            equipment.put(material.getEquipmentSlot(), new ItemStack(material));
+        }
+
+        String name = section.getString("name");
+
+        return new MobSpec(entityClass.asSubclass(Mob.class), section.getBoolean("baby", false),
+            section.getDouble("health", 1.0), speed, equipment,
+            name != null ? Component.text(name, NamedTextColor.RED) : null);
+    }
+
+    /**
+     * Builds the plan the old spawner settings described: {@code maxWaves} rounds of
+     * {@code perWave} mobs of {@code entity}, each {@code waveInterval} ticks after the
+     * previous one is cleared
+     */
+    private static ConfigurationSection migrateSpawner(ConfigurationSection spawner) {
+        String entity = spawner.getString("entity", "baby_zombie").toLowerCase(Locale.ROOT);
+        boolean baby = entity.startsWith("baby_");
+        Map<String, Object> mob = Map.of("type", baby ? entity.substring("baby_".length()) : entity, "baby", baby);
+        Map<String, Object> round = Map.of(
+            "count", Math.max(0, spawner.getInt("perWave", 6)),
+            "delay", spawner.getLong("waveInterval", 120L),
+            "mobs", List.of(mob));
+        int rounds = Math.max(1, spawner.getInt("maxWaves", 5));
+        return new MemoryConfiguration().createSection(SECTION + ".cs25p",
+            Map.of("rounds", Collections.nCopies(rounds, round)));
+    }
+
+    private static ConfigurationSection toSection(Map<?, ?> values) {
+        return new MemoryConfiguration().createSection("entry", values);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String name) {
+        try {
+            return Enum.valueOf(type, name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package org.xpfarm.curse.mechanics;
 
+import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.models.SessionSnapshot;
+
+import java.util.List;
 
 /**
  * Base interface for all cursed mechanics in The Curse plugin.
@@ -28,6 +32,13 @@ public interface CursedMechanic {
      */
     boolean isEnabled();
 
+    /**
+     * Gets the PDC key this mechanic's cursed books carry. Books made before the shared
+     * marker key existed are identified by this key alone.
+     * @return The book key
+     */
+    NamespacedKey getBookKey();
+
     /**
      * Creates the cursed book item for this mechanic
      * @return ItemStack representing the cursed book
@@ -68,4 +79,28 @@ public interface CursedMechanic {
      * @return The CursePlugin instance
      */
     CursePlugin getPlugin();
+
+    /**
+     * Captures the state of every active session of this mechanic for the session journal
+     * @return Snapshots of the active sessions
+     */
+    default List<SessionSnapshot> snapshotSessions() {
+        return List.of();
+    }
+
+    /**
+     * Stops every active session for shutdown without ending it, so it can be resumed
+     */
+    default void suspendSessions() {
+    }
+
+    /**
+     * Resumes a journalled session for a player who is back online
+     * @param player The player the session belongs to
+     * @param snapshot The journalled session state
+     * @return true if the session was resumed
+     */
+    default boolean resumeSession(Player player, SessionSnapshot snapshot) {
+        return false;
+    }
 }
@@ -1,26 +1,49 @@
 package org.xpfarm.curse.mechanics;
 
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataType;
 import org.xpfarm.curse.CursePlugin;
 
+import io.papermc.paper.persistence.PersistentDataContainerView;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Manager for all cursed mechanics in The Curse plugin.
  * Handles registration, activation, and lifecycle management of different cursed mechanics.
+ *
+ * <p>Also the registry of cursed book types. Every book carries the shared
+ * {@code curse_book} marker holding its mechanic ID, so identifying a book is one PDC
+ * read and one map lookup. Books made before the marker existed carry only their
+ * mechanic's own key and are matched against {@link #bookKeys} instead.
+ *
+ * <p>Also the index of who is cursed. A player has at most one active mechanic across
+ * all of them: a mechanic {@link #claimPlayer claims} the player before starting a
+ * session and {@link #releasePlayer releases} them when it ends, so the active-curse
+ * checks are a single lookup however many mechanics are registered.
  */
 public class CursedMechanicManager {
 
     private final CursePlugin plugin;
     private final Map<String, CursedMechanic> mechanics;
+    private final Map<NamespacedKey, CursedMechanic> bookKeys;
+    private final NamespacedKey bookMarkerKey;
+    private final ConcurrentMap<UUID, CursedMechanic> activeMechanics;
 
     public CursedMechanicManager(CursePlugin plugin) {
         this.plugin = plugin;
         this.mechanics = new HashMap<>();
+        this.bookKeys = new HashMap<>();
+        this.bookMarkerKey = new NamespacedKey(plugin, "curse_book");
+        this.activeMechanics = new ConcurrentHashMap<>();
 
         // Register available mechanics
         registerMechanics();
@@ -43,6 +66,7 @@ public class CursedMechanicManager {
      */
     public void registerMechanic(CursedMechanic mechanic) {
         mechanics.put(mechanic.getMechanicId(), mechanic);
+        bookKeys.put(mechanic.getBookKey(), mechanic);
         plugin.getLogger().info("Registered cursed mechanic: " + mechanic.getMechanicId() + " (" + mechanic.getName() + ")");
     }
 
@@ -78,44 +102,67 @@ public class CursedMechanicManager {
      * @return true if a mechanic was activated
      */
     public boolean activateMechanic(Player player, ItemStack item) {
-        // Try to determine which mechanic this book belongs to
-        for (CursedMechanic mechanic : mechanics.values()) {
-            if (mechanic.isEnabled() && isMechanicBook(item, mechanic)) {
-                return mechanic.activate(player, item);
-            }
-        }
-        return false;
+        CursedMechanic mechanic = getBookMechanic(item);
+        return mechanic != null && mechanic.isEnabled() && mechanic.activate(player, item);
     }
 
     /**
-     * Checks if an item is a cursed book for a specific mechanic
+     * Identifies the mechanic a cursed book belongs to
      * @param item The item to check
-     * @param mechanic The mechanic to check against
-     * @return true if the item is a book for this mechanic
+     * @return The book's mechanic, or null if the item is not a cursed book
      */
-    private boolean isMechanicBook(ItemStack item, CursedMechanic mechanic) {
-        if (item == null || !item.hasItemMeta()) {
-            return false;
+    public CursedMechanic getBookMechanic(ItemStack item) {
+        if (item == null || item.getType() != Material.BOOK) {
+            return null;
         }
 
-        ItemStack mechanicBook = mechanic.createCursedBook();
-        if (mechanicBook == null || !mechanicBook.hasItemMeta()) {
-            return false;
+        // Read-only view; does not copy the item's meta
+        PersistentDataContainerView pdc = item.getPersistentDataContainer();
+        if (pdc.isEmpty()) {
+            return null;
         }
 
-        // Compare the keys that would be set by each mechanic
-        var itemPdc = item.getItemMeta().getPersistentDataContainer();
-        var mechanicPdc = mechanicBook.getItemMeta().getPersistentDataContainer();
+        String mechanicId = pdc.get(bookMarkerKey, PersistentDataType.STRING);
+        if (mechanicId != null) {
+            return mechanics.get(mechanicId);
+        }
 
-        // Check if the item has any of the mechanic's persistent data keys
-        for (var key : mechanicPdc.getKeys()) {
-            if (itemPdc.has(key) && itemPdc.get(key, PersistentDataType.STRING)
-                    .equals(mechanicPdc.get(key, PersistentDataType.STRING))) {
-                return true;
+        // A book from before the marker key
+        for (Map.Entry<NamespacedKey, CursedMechanic> entry : bookKeys.entrySet()) {
+            if (pdc.has(entry.getKey(), PersistentDataType.STRING)) {
+                return entry.getValue();
             }
         }
+        return null;
+    }
+
+    /**
+     * Gets the key every cursed book carries, holding its mechanic ID
+     * @return The book marker key
+     */
+    public NamespacedKey getBookMarkerKey() {
+        return bookMarkerKey;
+    }
+
+    /**
+     * Claims a player for a mechanic that is about to start a session. Fails if the
+     * player already has an active mechanic, so two activations can never both succeed.
+     * @param playerId The player's UUID
+     * @param mechanic The mechanic starting a session
+     * @return true if the player was claimed
+     */
+    public boolean claimPlayer(UUID playerId, CursedMechanic mechanic) {
+        return activeMechanics.putIfAbsent(playerId, mechanic) == null;
+    }
 
-        return false;
+    /**
+     * Releases a player once a mechanic's session has ended or been suspended. Does
+     * nothing if the player is held by a different mechanic.
+     * @param playerId The player's UUID
+     * @param mechanic The mechanic whose session ended
+     */
+    public void releasePlayer(UUID playerId, CursedMechanic mechanic) {
+        activeMechanics.remove(playerId, mechanic);
     }
 
     /**
@@ -124,8 +171,7 @@ public class CursedMechanicManager {
      * @return true if the player has any active mechanic
      */
     public boolean hasActiveMechanic(Player player) {
-        return mechanics.values().stream()
-                .anyMatch(mechanic -> mechanic.hasActiveMechanic(player));
+        return activeMechanics.containsKey(player.getUniqueId());
     }
 
     /**
@@ -133,7 +179,10 @@ public class CursedMechanicManager {
      * @param player The player whose mechanics should end
      */
     public void endAllMechanics(Player player) {
-        mechanics.values().forEach(mechanic -> mechanic.endMechanic(player));
+        CursedMechanic mechanic = activeMechanics.get(player.getUniqueId());
+        if (mechanic != null) {
+            mechanic.endMechanic(player);
+        }
     }
 
     /**
@@ -142,9 +191,6 @@ public class CursedMechanicManager {
      * @return The active mechanic, or null if none
      */
     public CursedMechanic getActiveMechanic(Player player) {
-        return mechanics.values().stream()
-                .filter(mechanic -> mechanic.hasActiveMechanic(player))
-                .findFirst()
-                .orElse(null);
+        return activeMechanics.get(player.getUniqueId());
     }
 }
@@ -2,15 +2,23 @@ package org.xpfarm.curse.mechanics;
 
 import org.bukkit.*;
 import org.bukkit.block.Block;
+import org.bukkit.block.Chest;
 import org.bukkit.block.CreatureSpawner;
 import org.bukkit.entity.*;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
-import org.xpfarm.curse.models.CurseActivity;
+import org.xpfarm.curse.managers.ArenaRestoreManager;
+import org.xpfarm.curse.managers.EffectManager;
+import org.xpfarm.curse.models.CurseSession;
+import org.xpfarm.curse.models.LootTable;
+import org.xpfarm.curse.models.ParticleEmitter;
+import org.xpfarm.curse.models.SessionSnapshot;
+import org.xpfarm.curse.models.WavePlan;
 import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.utils.BlockKeys;
+import org.xpfarm.curse.utils.CraterSurvey;
+import org.xpfarm.curse.utils.EntityResolver;
+import org.xpfarm.curse.utils.ParticleShape;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -29,15 +37,59 @@ public class CursedSpawnMechanic implements CursedMechanic {
     private final CursePlugin plugin;
     private final NamespacedKey bookKey;
     private final Map<UUID, CursedSpawnSession> activeSessions;
+    // Obsidian blocks still in the air, to the session that dropped each
+    private final Map<UUID, CursedSpawnSession> fallingBlocks;
 
     public static final String MECHANIC_ID = "CS25P";
     public static final String BOOK_ID = "cs25p_cursed_spawn_book";
     public static final String MECHANIC_NAME = "Cursed Spawn";
 
+    // A block dropped from 100 blocks up lands in about three seconds; past this it was lost
+    private static final long FALL_TIMEOUT_TICKS = 200L;
+
+    // How far from the impact the spawner may be placed, looking for the crater's floor
+    private static final int FLOOR_SEARCH_RADIUS = 4;
+
+    // Smoke shell thrown out around the crater by the explosion
+    private static final ParticleShape SMOKE_SHAPE = ParticleShape.sphere(4.0, 50);
+
+    private static final Component BOOK_NAME = Component.text("Book of Summoning", NamedTextColor.DARK_RED)
+        .decoration(TextDecoration.ITALIC, false)
+        .decoration(TextDecoration.BOLD, true);
+
+    private static final List<Component> BOOK_LORE = List.of(
+        Component.text("", NamedTextColor.GRAY),
+        Component.text("It came not from the sky, but from beyond.", NamedTextColor.DARK_PURPLE)
+            .decoration(TextDecoration.ITALIC, true),
+        Component.text("The stone cracked the earth, and with it,", NamedTextColor.DARK_PURPLE)
+            .decoration(TextDecoration.ITALIC, true),
+        Component.text("the spawn of curses broke free.", NamedTextColor.DARK_PURPLE)
+            .decoration(TextDecoration.ITALIC, true),
+        Component.text("", NamedTextColor.GRAY),
+        Component.text("Cursed Spawn Mechanics:", NamedTextColor.GOLD)
+            .decoration(TextDecoration.ITALIC, false)
+            .decoration(TextDecoration.BOLD, true),
+        Component.text("• Right-click to summon the crater", NamedTextColor.YELLOW)
+            .decoration(TextDecoration.ITALIC, false),
+        Component.text("• Obsidian falls and explodes", NamedTextColor.YELLOW)
+            .decoration(TextDecoration.ITALIC, false),
+        Component.text("• Spawner creates waves of baby zombies", NamedTextColor.YELLOW)
+            .decoration(TextDecoration.ITALIC, false),
+        Component.text("• Survive all waves for rewards", NamedTextColor.YELLOW)
+            .decoration(TextDecoration.ITALIC, false),
+        Component.text("• Use antidote to escape early", NamedTextColor.GREEN)
+            .decoration(TextDecoration.ITALIC, false),
+        Component.text("", NamedTextColor.GRAY),
+        Component.text("⚠ Beware what stirs in the crater's core", NamedTextColor.RED)
+            .decoration(TextDecoration.ITALIC, true)
+    );
+
     public CursedSpawnMechanic(CursePlugin plugin) {
         this.plugin = plugin;
         this.bookKey = new NamespacedKey(plugin, BOOK_ID);
         this.activeSessions = new ConcurrentHashMap<>();
+        this.fallingBlocks = new HashMap<>();
+        plugin.getItemPrototypeManager().register(BOOK_ID, this::buildCursedBook);
     }
 
     @Override
@@ -55,47 +107,30 @@ public class CursedSpawnMechanic implements CursedMechanic {
         return plugin.getConfigManager().getConfig().getBoolean("mechanics.cs25p.enabled", true);
     }
 
+    @Override
+    public NamespacedKey getBookKey() {
+        return bookKey;
+    }
+
     @Override
     public ItemStack createCursedBook() {
+        return plugin.getItemPrototypeManager().create(BOOK_ID);
+    }
+
+    /**
+     * Builds the CS25P book prototype
+     * @return A new cursed book
+     */
+    private ItemStack buildCursedBook() {
         ItemStack book = new ItemStack(Material.BOOK);
 
         book.editMeta(meta -> {
-            // Set display name
-            meta.displayName(Component.text("Book of Summoning", NamedTextColor.DARK_RED)
-                .decoration(TextDecoration.ITALIC, false)
-                .decoration(TextDecoration.BOLD, true));
-
-            // Set lore with curse mechanics explanation
-            List<Component> lore = Arrays.asList(
-                Component.text("", NamedTextColor.GRAY),
-                Component.text("It came not from the sky, but from beyond.", NamedTextColor.DARK_PURPLE)
-                    .decoration(TextDecoration.ITALIC, true),
-                Component.text("The stone cracked the earth, and with it,", NamedTextColor.DARK_PURPLE)
-                    .decoration(TextDecoration.ITALIC, true),
-                Component.text("the spawn of curses broke free.", NamedTextColor.DARK_PURPLE)
-                    .decoration(TextDecoration.ITALIC, true),
-                Component.text("", NamedTextColor.GRAY),
-                Component.text("Cursed Spawn Mechanics:", NamedTextColor.GOLD)
-                    .decoration(TextDecoration.ITALIC, false)
-                    .decoration(TextDecoration.BOLD, true),
-                Component.text("• Right-click to summon the crater", NamedTextColor.YELLOW)
-                    .decoration(TextDecoration.ITALIC, false),
-                Component.text("• Obsidian falls and explodes", NamedTextColor.YELLOW)
-                    .decoration(TextDecoration.ITALIC, false),
-                Component.text("• Spawner creates waves of baby zombies", NamedTextColor.YELLOW)
-                    .decoration(TextDecoration.ITALIC, false),
-                Component.text("• Survive all waves for rewards", NamedTextColor.YELLOW)
-                    .decoration(TextDecoration.ITALIC, false),
-                Component.text("• Use antidote to escape early", NamedTextColor.GREEN)
-                    .decoration(TextDecoration.ITALIC, false),
-                Component.text("", NamedTextColor.GRAY),
-                Component.text("⚠ Beware what stirs in the crater's core", NamedTextColor.RED)
-                    .decoration(TextDecoration.ITALIC, true)
-            );
-            meta.lore(lore);
+            meta.displayName(BOOK_NAME);
+            meta.lore(BOOK_LORE);
 
             // Add persistent data to identify this as a CS25P cursed book
             meta.getPersistentDataContainer().set(bookKey, PersistentDataType.STRING, BOOK_ID);
+            meta.getPersistentDataContainer().set(plugin.getCursedMechanicManager().getBookMarkerKey(), PersistentDataType.STRING, MECHANIC_ID);
         });
 
         return book;
@@ -129,14 +164,14 @@ public class CursedSpawnMechanic implements CursedMechanic {
     @Override
     public boolean canActivate(Player player) {
         // Check if player already has active mechanic
-        if (hasActiveMechanic(player)) {
-            player.sendMessage(Component.text("You already have an active cursed spawn!", NamedTextColor.RED));
+        if (plugin.getCursedMechanicManager().hasActiveMechanic(player)) {
+            player.sendMessage(Component.text("You already have an active curse!", NamedTextColor.RED));
             return false;
         }
 
         // Check cooldown
-        if (plugin.getCooldownManager().hasCooldown(player)) {
-            long remainingSeconds = plugin.getCooldownManager().getRemainingCooldownSeconds(player);
+        if (plugin.getCooldownManager().hasCooldown(player, MECHANIC_ID)) {
+            long remainingSeconds = plugin.getCooldownManager().getRemainingCooldownSeconds(player, MECHANIC_ID);
             long remainingMinutes = remainingSeconds / 60;
             player.sendMessage(Component.text("You must wait " + remainingMinutes + " minutes before starting another curse!", NamedTextColor.RED));
             return false;
@@ -154,10 +189,9 @@ public class CursedSpawnMechanic implements CursedMechanic {
 
     @Override
     public boolean endMechanic(Player player) {
-        CursedSpawnSession session = activeSessions.remove(player.getUniqueId());
+        CursedSpawnSession session = activeSessions.get(player.getUniqueId());
         if (session != null) {
-            session.cleanup();
-            player.sendMessage(Component.text("The cursed spawn has been ended.", NamedTextColor.YELLOW));
+            session.end(false);
             return true;
         }
         return false;
@@ -173,30 +207,46 @@ public class CursedSpawnMechanic implements CursedMechanic {
         return plugin;
     }
 
-    /**
-     * Handle mob death for CS25P sessions
-     * @param entity The entity that died
-     * @param killer The player who killed the entity (can be null)
-     * @return true if this was a CS25P mob and kill was credited
-     */
-    public boolean handleMobDeath(Entity entity, Player killer) {
+    @Override
+    public List<SessionSnapshot> snapshotSessions() {
+        List<SessionSnapshot> snapshots = new ArrayList<>(activeSessions.size());
         for (CursedSpawnSession session : activeSessions.values()) {
-            if (session.activeMobs.contains(entity)) {
-                // This mob was part of a cursed spawn
-
-                // Only give credit if the cursed player killed it or if no specific killer
-                if (killer == null || killer.getUniqueId().equals(session.player.getUniqueId())) {
-                    session.onMobKilled();
-                    session.activeMobs.remove(entity);
-                    return true;
-                } else {
-                    // Someone else killed the curse mob - remove it from tracking but no credit
-                    session.activeMobs.remove(entity);
-                    return false;
-                }
-            }
+            snapshots.add(session.snapshot());
         }
-        return false;
+        return snapshots;
+    }
+
+    @Override
+    public void suspendSessions() {
+        for (CursedSpawnSession session : activeSessions.values()) {
+            session.suspend();
+            plugin.getCursedMechanicManager().releasePlayer(session.getPlayerId(), this);
+        }
+        activeSessions.clear();
+    }
+
+    @Override
+    public boolean resumeSession(Player player, SessionSnapshot snapshot) {
+        if (hasActiveMechanic(player)) {
+            return false;
+        }
+
+        World world = plugin.getServer().getWorld(snapshot.world());
+        if (world == null) {
+            return false;
+        }
+
+        if (!plugin.getCursedMechanicManager().claimPlayer(player.getUniqueId(), this)) {
+            return false;
+        }
+
+        Location startLocation = new Location(world, snapshot.x(), snapshot.y(), snapshot.z());
+        CursedSpawnSession session = new CursedSpawnSession(player, startLocation, snapshot.sessionId(), snapshot.startTime());
+        activeSessions.put(player.getUniqueId(), session);
+
+        player.sendMessage(Component.text("The Cursed Spawn stirs again - your progress has been restored!", NamedTextColor.GOLD));
+        session.resume(snapshot);
+        return true;
     }
 
     /**
@@ -205,6 +255,12 @@ public class CursedSpawnMechanic implements CursedMechanic {
      * @return true if successfully started
      */
     private boolean startCursedSpawn(Player player) {
+        // Claim the player; fails if another curse started for them in the meantime
+        if (!plugin.getCursedMechanicManager().claimPlayer(player.getUniqueId(), this)) {
+            player.sendMessage(Component.text("You already have an active curse!", NamedTextColor.RED));
+            return false;
+        }
+
         Location spawnLoc = player.getLocation().clone();
 
         // Create new session
@@ -247,42 +303,69 @@ public class CursedSpawnMechanic implements CursedMechanic {
             return false;
         }
 
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) {
-            return false;
+        return item.getPersistentDataContainer().has(bookKey, PersistentDataType.STRING);
+    }
+
+    /**
+     * Formats a location's coordinates for a snapshot extra
+     */
+    private static String formatCoordinates(Location location) {
+        return location.getX() + "," + location.getY() + "," + location.getZ();
+    }
+
+    /**
+     * Parses coordinates written by {@link #formatCoordinates} back into a location
+     */
+    private static Location parseCoordinates(World world, String coordinates) {
+        String[] parts = coordinates.split(",");
+        return new Location(world, Double.parseDouble(parts[0]), Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+    }
+
+    /**
+     * Called as a falling block turns into a block on landing, on that same tick
+     * @param blockId The falling block
+     * @param impact The block it is landing in
+     */
+    public void onFallingBlockLanded(UUID blockId, Location impact) {
+        CursedSpawnSession session = fallingBlocks.get(blockId);
+        if (session != null) {
+            session.land(impact);
         }
+    }
 
-        return meta.getPersistentDataContainer().has(bookKey, PersistentDataType.STRING);
+    /**
+     * Called as a falling block leaves the world without landing, e.g. broken on a torch
+     * or unloaded. The explosion runs on the next tick, outside the removal.
+     * @param blockId The falling block
+     * @param lastSeen Where it was
+     */
+    public void onFallingBlockRemoved(UUID blockId, Location lastSeen) {
+        CursedSpawnSession session = fallingBlocks.get(blockId);
+        if (session != null) {
+            session.landNextTick(blockId, lastSeen);
+        }
     }
 
     /**
-     * Internal class to manage a cursed spawn session for a player
+     * Internal class to manage a cursed spawn session for a player. Holds UUIDs and
+     * locations only; the player and entities are resolved when needed. Waves, mob
+     * tracking and cleanup come from {@link CurseSession}; this class adds the falling
+     * block, the crater and its spawner.
      */
-    private class CursedSpawnSession implements CurseActivity {
-        private final Player player;
+    private class CursedSpawnSession extends CurseSession {
         private final Location startLocation;
-        private final long startTime;
 
-        private FallingBlock fallingBlock;
+        private UUID fallingBlockId;
         private Location craterCenter;
-        private Block spawnerBlock;
-        private int currentWave;
-        private int maxWaves;
-        private int totalKills;
-        private boolean wasSuccessful;
-        private Set<Entity> activeMobs;
-        private BukkitTask waveTask;
-        private BukkitTask monitorTask;
+        private Location spawnerLocation;
 
         public CursedSpawnSession(Player player, Location startLocation) {
-            this.player = player;
+            this(player, startLocation, UUID.randomUUID(), System.currentTimeMillis());
+        }
+
+        private CursedSpawnSession(Player player, Location startLocation, UUID sessionId, long startTime) {
+            super(CursedSpawnMechanic.this.plugin, sessionId, player.getUniqueId(), startTime);
             this.startLocation = startLocation.clone();
-            this.startTime = System.currentTimeMillis();
-            this.activeMobs = new HashSet<>();
-            this.currentWave = 0;
-            this.maxWaves = plugin.getConfigManager().getConfig().getInt("mechanics.cs25p.maxWaves", 5);
-            this.totalKills = 0;
-            this.wasSuccessful = false;
         }
 
         public void startFallingBlock() {
@@ -296,22 +379,57 @@ public class CursedSpawnMechanic implements CursedMechanic {
             warnNearbyPlayers();
 
             // Create falling obsidian block
-            fallingBlock = world.spawn(fallLocation, FallingBlock.class, fb -> {
+            FallingBlock fallingBlock = world.spawn(fallLocation, FallingBlock.class, fb -> {
                 fb.setBlockData(Material.OBSIDIAN.createBlockData());
                 fb.setDropItem(false); // Don't drop item when it hits
                 fb.setHurtEntities(true); // Can hurt entities
+                plugin.getArenaVisibilityManager().register(fb, this);
             });
+            UUID blockId = fallingBlock.getUniqueId();
+            fallingBlockId = blockId;
+            fallingBlocks.put(blockId, this);
+
+            // The explosion fires from the landing event; this only catches a block that
+            // never lands or leaves the world, and is cancelled with the session
+            runTaskLater(() -> {
+                if (!blockId.equals(fallingBlockId)) return;
+                Entity block = EntityResolver.entity(blockId);
+                land(block != null ? block.getLocation() : null);
+                if (block != null) {
+                    block.remove();
+                }
+            }, FALL_TIMEOUT_TICKS);
+        }
 
-            // Schedule explosion when block hits ground
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    if (fallingBlock == null || fallingBlock.isDead() || fallingBlock.isOnGround()) {
-                        createExplosion();
-                        this.cancel();
-                    }
+        /**
+         * Explodes the crater where the falling block came down, once
+         * @param impact Where it landed, or null to use the start location
+         */
+        private void land(Location impact) {
+            if (fallingBlockId == null) return;
+            fallingBlocks.remove(fallingBlockId);
+            fallingBlockId = null;
+            if (isActive()) {
+                createExplosion(impact);
+            }
+        }
+
+        private void landNextTick(UUID blockId, Location impact) {
+            runTaskLater(() -> {
+                if (blockId.equals(fallingBlockId)) {
+                    land(impact);
                 }
-            }.runTaskTimer(plugin, 20L, 5L); // Check every 5 ticks after 1 second delay
+            }, 1L);
+        }
+
+        private void discardFallingBlock() {
+            if (fallingBlockId == null) return;
+            fallingBlocks.remove(fallingBlockId);
+            Entity fallingBlock = EntityResolver.entity(fallingBlockId);
+            fallingBlockId = null;
+            if (fallingBlock != null && !fallingBlock.isDead()) {
+                fallingBlock.remove();
+            }
         }
 
         private void warnNearbyPlayers() {
@@ -327,27 +445,27 @@ public class CursedSpawnMechanic implements CursedMechanic {
             }
         }
 
-        private void createExplosion() {
+        private void createExplosion(Location impact) {
             World world = startLocation.getWorld();
             if (world == null) return;
 
             // Find where the block landed
-            craterCenter = fallingBlock != null ? fallingBlock.getLocation() : startLocation;
+            craterCenter = impact != null ? impact : startLocation.clone();
 
             // Create massive explosion (power of 1 end crystal = ~6)
             int explosionPower = plugin.getConfigManager().getConfig().getInt("mechanics.cs25p.explosion.power", 6);
-            world.createExplosion(craterCenter, explosionPower, false, true);
+            int explosionRadius = plugin.getConfigManager().getConfig().getInt("mechanics.cs25p.explosion.radius", 10);
+
+            // Keep the terrain so it can be put back once the session is over
+            ArenaRestoreManager arenaRestore = plugin.getArenaRestoreManager();
+            arenaRestore.capture(this, craterCenter, explosionRadius);
+            arenaRestore.withoutDrops(() -> world.createExplosion(craterCenter, explosionPower, false, true));
 
             // Create additional dramatic effects
             createExplosionEffects();
 
             // Schedule spawner creation after explosion settles
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    createSpawner();
-                }
-            }.runTaskLater(plugin, 40L); // 2 seconds after explosion
+            runTaskLater(this::createSpawner, 40L); // 2 seconds after explosion
         }
 
         private void createExplosionEffects() {
@@ -355,27 +473,53 @@ public class CursedSpawnMechanic implements CursedMechanic {
             if (world == null) return;
 
             // Massive particle effects
-            world.spawnParticle(Particle.EXPLOSION, craterCenter, 10, 3, 3, 3, 0);
-            world.spawnParticle(Particle.LARGE_SMOKE, craterCenter, 50, 5, 5, 5, 0.1);
-            world.spawnParticle(Particle.LAVA, craterCenter, 30, 4, 4, 4, 0);
+            EffectManager effects = plugin.getEffectManager();
+            effects.submit(ParticleEmitter.burst(craterCenter, Particle.EXPLOSION, 10, 3, 0), this);
+            effects.submit(new ParticleEmitter(craterCenter, Particle.LARGE_SMOKE, SMOKE_SHAPE, 1, 0.5, 0.1, 1, 1), this);
+            effects.submit(ParticleEmitter.burst(craterCenter, Particle.LAVA, 30, 4, 0), this);
 
             // Dramatic sounds
             world.playSound(craterCenter, Sound.ENTITY_GENERIC_EXPLODE, 2.0f, 0.5f);
             world.playSound(craterCenter, Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 1.5f, 0.8f);
 
             // Message to activating player
-            player.sendMessage(Component.text("The obsidian crater has been carved! Beware what emerges from its depths...", NamedTextColor.DARK_PURPLE));
+            sendMessage(Component.text("The obsidian crater has been carved! Beware what emerges from its depths...", NamedTextColor.DARK_PURPLE));
         }
 
         private void createSpawner() {
             World world = craterCenter.getWorld();
             if (world == null) return;
 
-            // Find the lowest point in the crater to place spawner
-            Location spawnerLoc = findCraterBottom();
+            // Survey the crater off the main thread from copies of the chunks it spans,
+            // then place the spawner back on it
+            Location center = craterCenter.clone();
+            Map<Long, ChunkSnapshot> chunks = new HashMap<>();
+            for (int[] chunk : CraterSurvey.chunksAround(center.getBlockX(), center.getBlockZ(), FLOOR_SEARCH_RADIUS)) {
+                chunks.put(BlockKeys.chunk(chunk[0], chunk[1]),
+                    world.getChunkAt(chunk[0], chunk[1]).getChunkSnapshot(true, false, false));
+            }
+            int minY = world.getMinHeight();
+            plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+                int[] floor = CraterSurvey.findFloor(chunks, center.getBlockX(), center.getBlockZ(),
+                    FLOOR_SEARCH_RADIUS, minY);
+                // Spawner sits on the floor; with no safe floor, fall back to the impact point
+                Location spawnerLoc = floor != null
+                    ? new Location(world, floor[0], floor[1] + 1, floor[2])
+                    : center;
+                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    if (isActive() && spawnerLocation == null) {
+                        placeSpawner(spawnerLoc);
+                    }
+                });
+            });
+        }
+
+        private void placeSpawner(Location spawnerLoc) {
+            World world = spawnerLoc.getWorld();
 
             // Place spawner block
-            spawnerBlock = world.getBlockAt(spawnerLoc);
+            spawnerLocation = spawnerLoc;
+            Block spawnerBlock = world.getBlockAt(spawnerLoc);
             spawnerBlock.setType(Material.SPAWNER);
 
             // Configure spawner
@@ -391,121 +535,139 @@ public class CursedSpawnMechanic implements CursedMechanic {
             }
 
             // Start wave system
-            startWaveSystem();
+            startWave(1);
         }
 
-        private Location findCraterBottom() {
-            World world = craterCenter.getWorld();
-            if (world == null) return craterCenter;
-
-            // Search downward from crater center to find the lowest solid block
-            Location searchLoc = craterCenter.clone();
-            for (int y = (int) craterCenter.getY(); y > world.getMinHeight(); y--) {
-                searchLoc.setY(y);
-                Block block = world.getBlockAt(searchLoc);
-                if (block.getType().isSolid()) {
-                    return searchLoc.add(0, 1, 0); // Place spawner on top of solid block
-                }
-            }
+        // Wave plan
 
-            return craterCenter; // Fallback
+        @Override
+        protected int getWaveCount() {
+            return getWavePlan().size();
         }
 
-        private void startWaveSystem() {
-            currentWave = 1;
-            player.sendMessage(Component.text("Wave " + currentWave + " begins! Survive the cursed spawn!", NamedTextColor.GOLD));
+        @Override
+        protected int getWaveSize(int wave) {
+            return getWavePlan().wave(wave).count(0);
+        }
 
-            // Start wave spawning task
-            waveTask = new BukkitRunnable() {
-                @Override
-                public void run() {
-                    spawnWave();
-                }
-            }.runTaskTimer(plugin, 0L, plugin.getConfigManager().getConfig().getInt("mechanics.cs25p.waveInterval", 120) * 20L);
+        @Override
+        protected long getWaveDelay(int wave) {
+            return getWavePlan().wave(wave).getDelay();
+        }
 
-            // Start monitoring task to check wave completion
-            monitorTask = new BukkitRunnable() {
-                @Override
-                public void run() {
-                    checkWaveCompletion();
-                }
-            }.runTaskTimer(plugin, 40L, 20L); // Check every second after initial delay
+        @Override
+        protected long getWaveInterval(int wave) {
+            return getWavePlan().wave(wave).getInterval();
         }
 
-        private void spawnWave() {
-            if (currentWave > maxWaves) {
-                completeSpawn();
-                return;
-            }
+        @Override
+        protected Mob spawnWaveMob(int wave, int index) {
+            Location spawnLoc = findSpawnLocation();
+            if (spawnLoc == null) return null;
+
+            Mob mob = getWavePlan().wave(wave).mob(index).spawn(spawnLoc,
+                spawned -> plugin.getCurseMobManager().prepareMob(spawned, this));
+            mob.setTarget(getPlayer()); // Target the player
+            return mob;
+        }
 
-            World world = craterCenter.getWorld();
-            if (world == null) return;
+        @Override
+        protected boolean recycleWaveMob(Mob mob, int wave, int index) {
+            Location spawnLoc = findSpawnLocation();
+            if (spawnLoc == null || !getWavePlan().wave(wave).mob(index).upgrade(mob)) return false;
 
-            int mobsPerWave = plugin.getConfigManager().getConfig().getInt("mechanics.cs25p.perWave", 6);
-
-            // Spawn baby zombies around the spawner
-            for (int i = 0; i < mobsPerWave; i++) {
-                Location spawnLoc = craterCenter.clone().add(
-                    (Math.random() - 0.5) * 10, // Random X within 10 blocks
-                    2, // Spawn above ground
-                    (Math.random() - 0.5) * 10  // Random Z within 10 blocks
-                );
-
-                Entity entity = world.spawnEntity(spawnLoc, EntityType.ZOMBIE);
-                if (entity instanceof Zombie zombie) {
-                    zombie.setAge(-1000); // Set as baby zombie (negative age)
-                    zombie.setTarget(player); // Target the player
-                    activeMobs.add(zombie);
-                }
-            }
+            mob.teleport(spawnLoc);
+            mob.setTarget(getPlayer());
+            return true;
+        }
 
-            player.sendMessage(Component.text("Wave " + currentWave + " spawned! " + mobsPerWave + " baby zombies emerge!", NamedTextColor.RED));
+        private Location findSpawnLocation() {
+            World world = craterCenter != null ? craterCenter.getWorld() : null;
+            if (world == null) return null;
+
+            return craterCenter.clone().add(
+                (Math.random() - 0.5) * 10, // Random X within 10 blocks
+                2, // Spawn above ground
+                (Math.random() - 0.5) * 10  // Random Z within 10 blocks
+            );
         }
 
-        private void checkWaveCompletion() {
-            // Remove dead mobs from tracking
-            activeMobs.removeIf(Entity::isDead);
+        private WavePlan getWavePlan() {
+            return plugin.getWavePlanManager().getPlan(MECHANIC_ID);
+        }
 
-            // Check if player died
-            if (!player.isOnline() || player.isDead()) {
-                endSpawn(false);
-                return;
-            }
+        // Hooks
 
-            // Check if all mobs are dead and we can proceed to next wave
-            if (activeMobs.isEmpty() && currentWave <= maxWaves) {
-                currentWave++;
-                if (currentWave <= maxWaves) {
-                    player.sendMessage(Component.text("Wave " + (currentWave - 1) + " cleared! Next wave incoming...", NamedTextColor.GREEN));
-                    // Next wave will spawn automatically via waveTask
-                }
+        @Override
+        protected void onWaveStarted(int wave, int size) {
+            sendMessage(Component.text("Wave " + wave + " begins! " + size + " baby zombies emerge from the crater!", NamedTextColor.RED));
+        }
+
+        @Override
+        protected void onWaveCleared(int wave) {
+            if (wave < getWaveCount()) {
+                sendMessage(Component.text("Wave " + wave + " cleared! Next wave incoming...", NamedTextColor.GREEN));
             }
         }
 
-        private void completeSpawn() {
-            endSpawn(true);
+        @Override
+        protected void onWaveResumed(int wave) {
+            sendMessage(Component.text("Wave " + wave + " continues! Survive the cursed spawn!", NamedTextColor.GOLD));
         }
 
-        private void endSpawn(boolean success) {
-            wasSuccessful = success;
-            cleanup();
+        @Override
+        protected void onEnded(boolean success) {
+            discardFallingBlock();
+            removeSpawner();
 
             if (success) {
-                player.sendMessage(Component.text("You have survived the Cursed Spawn! Claim your reward!", NamedTextColor.GOLD));
-                createRewardChest();
-                plugin.getCooldownManager().setCooldown(player);
+                sendMessage(Component.text("You have survived the Cursed Spawn! Claim your reward!", NamedTextColor.GOLD));
+                if (plugin.getConfigManager().getConfig().getBoolean("mechanics.cs25p.reward.enabled", true)) {
+                    createRewardChest();
+                }
+                plugin.getCooldownManager().setCooldown(getPlayerId(), MECHANIC_ID);
             } else {
-                player.sendMessage(Component.text("The Cursed Spawn has ended...", NamedTextColor.GRAY));
+                sendMessage(Component.text("The Cursed Spawn has ended...", NamedTextColor.GRAY));
             }
 
-            // Update leaderboard stats
-            plugin.getLeaderboardManager().updatePlayerStats(player.getUniqueId(), this);
-
             // Remove from active sessions
-            activeSessions.remove(player.getUniqueId());
+            if (activeSessions.remove(getPlayerId(), this)) {
+                plugin.getCursedMechanicManager().releasePlayer(getPlayerId(), CursedSpawnMechanic.this);
+            }
+        }
+
+        @Override
+        protected void onSuspended() {
+            // A block still in flight is dropped; resuming starts the fall again
+            discardFallingBlock();
+        }
+
+        private void removeSpawner() {
+            if (spawnerLocation != null) {
+                Block spawnerBlock = spawnerLocation.getBlock();
+                if (spawnerBlock.getType() == Material.SPAWNER) {
+                    spawnerBlock.setType(Material.AIR);
+                }
+            }
         }
 
         private void createRewardChest() {
+            // Draw from the mechanics.cs25p.reward.items table
+            List<ItemStack> rewards = new ArrayList<>();
+            LootTable loot = plugin.getLootTableManager().getTable(MECHANIC_ID);
+            int rolls = plugin.getConfigManager().getConfig().getInt("mechanics.cs25p.reward.rolls", 3);
+            for (int i = 0; i < rolls; i++) {
+                ItemStack item = loot.roll(getRandom());
+                if (item != null) {
+                    rewards.add(item);
+                }
+            }
+
+            if (plugin.getRewardVaultManager().isVaultMode()) {
+                plugin.getRewardVaultManager().deposit(getPlayerId(), rewards);
+                return;
+            }
+
             if (craterCenter == null) return;
 
             World world = craterCenter.getWorld();
@@ -515,60 +677,73 @@ public class CursedSpawnMechanic implements CursedMechanic {
             Location chestLoc = craterCenter.clone();
             Block chestBlock = world.getBlockAt(chestLoc);
             chestBlock.setType(Material.CHEST);
+            plugin.getRewardChestManager().track(chestBlock);
+            ((Chest) chestBlock.getState()).getInventory().addItem(rewards.toArray(new ItemStack[0]));
 
-            // TODO: Populate chest with rewards based on config
-            // This would be implemented similar to the existing reward system
-
-            player.sendMessage(Component.text("A reward chest has appeared in the crater!", NamedTextColor.YELLOW));
+            sendMessage(Component.text("A reward chest has appeared in the crater!", NamedTextColor.YELLOW));
         }
 
-        // Implement CurseActivity interface methods
-        @Override
-        public int getCurrentRound() {
-            return currentWave; // Use wave number as round equivalent
+        private void sendMessage(Component message) {
+            Player player = getPlayer();
+            if (player != null) {
+                player.sendMessage(message);
+            }
         }
 
         @Override
-        public int getTotalKills() {
-            return totalKills;
+        public Location getArenaCenter() {
+            return craterCenter != null ? craterCenter : startLocation;
         }
 
-        @Override
-        public long getStartTime() {
-            return startTime;
-        }
+        /**
+         * Captures the state needed to resume this session after a restart
+         */
+        public SessionSnapshot snapshot() {
+            List<UUID> mobIds = getMobTracker().ids();
 
-        @Override
-        public boolean isSuccessful() {
-            return wasSuccessful;
-        }
+            Map<String, String> extras = new LinkedHashMap<>();
+            if (craterCenter != null) {
+                extras.put("crater", formatCoordinates(craterCenter));
+            }
+            if (spawnerLocation != null) {
+                extras.put("spawner", formatCoordinates(spawnerLocation));
+            }
+            extras.put("betweenWaves", Boolean.toString(isBetweenWaves()));
+            extras.put("hordeReserve", Integer.toString(getHordeReserve()));
 
-        // Method to track mob kills
-        public void onMobKilled() {
-            totalKills++;
+            return new SessionSnapshot(MECHANIC_ID, getSessionId(), getPlayerId(), System.currentTimeMillis(), getStartTime(),
+                getCurrentRound(), getTotalKills(), false, 0L,
+                startLocation.getWorld().getName(), startLocation.getX(), startLocation.getY(), startLocation.getZ(),
+                mobIds, extras);
         }
 
-        public void cleanup() {
-            // Cancel running tasks
-            if (waveTask != null && !waveTask.isCancelled()) {
-                waveTask.cancel();
-            }
-            if (monitorTask != null && !monitorTask.isCancelled()) {
-                monitorTask.cancel();
+        /**
+         * Continues a session rebuilt from a snapshot, from whichever stage it had reached
+         */
+        public void resume(SessionSnapshot snapshot) {
+            World world = startLocation.getWorld();
+            restoreProgress(snapshot.round(), snapshot.kills());
+            String hordeReserve = snapshot.extra("hordeReserve");
+            restoreHordeReserve(hordeReserve != null ? Integer.parseInt(hordeReserve) : 0);
+
+            String crater = snapshot.extra("crater");
+            if (crater == null) {
+                // Interrupted before impact - drop the block again
+                startFallingBlock();
+                return;
             }
+            craterCenter = parseCoordinates(world, crater);
 
-            // Remove spawner if it exists
-            if (spawnerBlock != null && spawnerBlock.getType() == Material.SPAWNER) {
-                spawnerBlock.setType(Material.AIR);
-            }
+            reattachMobs(snapshot.mobs());
 
-            // Clean up any remaining mobs
-            for (Entity mob : activeMobs) {
-                if (!mob.isDead()) {
-                    mob.remove();
-                }
+            String spawner = snapshot.extra("spawner");
+            if (spawner == null) {
+                createSpawner();
+                return;
             }
-            activeMobs.clear();
+            spawnerLocation = parseCoordinates(world, spawner);
+
+            resumeWave(Boolean.parseBoolean(snapshot.extra("betweenWaves")));
         }
     }
 }
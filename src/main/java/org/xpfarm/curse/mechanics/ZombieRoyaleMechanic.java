@@ -1,18 +1,24 @@
 package org.xpfarm.curse.mechanics;
 
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.util.Vector;
 import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.managers.EffectManager;
+import org.xpfarm.curse.models.ParticleEmitter;
+import org.xpfarm.curse.utils.ParticleShape;
+import org.xpfarm.curse.models.SessionSnapshot;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -29,9 +35,38 @@ public class ZombieRoyaleMechanic implements CursedMechanic {
     public static final String BOOK_ID = "zp25_cursed_book";
     public static final String MECHANIC_NAME = "Zombie Royale";
 
+    // END_ROD sparkles winding up around the player on activation
+    private static final ParticleShape SPARKLE_SHAPE = ParticleShape.spiral(2.25, 2.0, 3.0, 20);
+
+    private static final Component BOOK_NAME = Component.text(MECHANIC_ID, NamedTextColor.DARK_RED)
+        .decoration(TextDecoration.ITALIC, false)
+        .decoration(TextDecoration.BOLD, true);
+
+    private static final List<Component> BOOK_LORE = List.of(
+        Component.text("", NamedTextColor.GRAY),
+        Component.text("A cursed tome bound in darkness", NamedTextColor.DARK_PURPLE)
+            .decoration(TextDecoration.ITALIC, true),
+        Component.text("", NamedTextColor.GRAY),
+        Component.text("Curse Mechanics:", NamedTextColor.GOLD)
+            .decoration(TextDecoration.ITALIC, false)
+            .decoration(TextDecoration.BOLD, true),
+        Component.text("• Right-click to activate the curse", NamedTextColor.YELLOW)
+            .decoration(TextDecoration.ITALIC, false),
+        Component.text("• Must be used at night", NamedTextColor.YELLOW)
+            .decoration(TextDecoration.ITALIC, false),
+        Component.text("• Book is consumed permanently", NamedTextColor.RED)
+            .decoration(TextDecoration.ITALIC, false),
+        Component.text("• Activates zombie plague waves", NamedTextColor.YELLOW)
+            .decoration(TextDecoration.ITALIC, false),
+        Component.text("", NamedTextColor.GRAY),
+        Component.text("⚠ Same cooldown rules apply", NamedTextColor.GRAY)
+            .decoration(TextDecoration.ITALIC, true)
+    );
+
     public ZombieRoyaleMechanic(CursePlugin plugin) {
         this.plugin = plugin;
         this.bookKey = new NamespacedKey(plugin, BOOK_ID);
+        plugin.getItemPrototypeManager().register(BOOK_ID, this::buildCursedBook);
     }
 
     @Override
@@ -49,41 +84,30 @@ public class ZombieRoyaleMechanic implements CursedMechanic {
         return plugin.getConfigManager().getConfig().getBoolean("mechanics.zp25.enabled", true);
     }
 
+    @Override
+    public NamespacedKey getBookKey() {
+        return bookKey;
+    }
+
     @Override
     public ItemStack createCursedBook() {
+        return plugin.getItemPrototypeManager().create(BOOK_ID);
+    }
+
+    /**
+     * Builds the ZP25 book prototype
+     * @return A new cursed book
+     */
+    private ItemStack buildCursedBook() {
         ItemStack book = new ItemStack(Material.BOOK);
 
         book.editMeta(meta -> {
-            // Set display name
-            meta.displayName(Component.text(MECHANIC_ID, NamedTextColor.DARK_RED)
-                .decoration(TextDecoration.ITALIC, false)
-                .decoration(TextDecoration.BOLD, true));
-
-            // Set lore with curse mechanics explanation
-            List<Component> lore = Arrays.asList(
-                Component.text("", NamedTextColor.GRAY),
-                Component.text("A cursed tome bound in darkness", NamedTextColor.DARK_PURPLE)
-                    .decoration(TextDecoration.ITALIC, true),
-                Component.text("", NamedTextColor.GRAY),
-                Component.text("Curse Mechanics:", NamedTextColor.GOLD)
-                    .decoration(TextDecoration.ITALIC, false)
-                    .decoration(TextDecoration.BOLD, true),
-                Component.text("• Right-click to activate the curse", NamedTextColor.YELLOW)
-                    .decoration(TextDecoration.ITALIC, false),
-                Component.text("• Must be used at night", NamedTextColor.YELLOW)
-                    .decoration(TextDecoration.ITALIC, false),
-                Component.text("• Book is consumed permanently", NamedTextColor.RED)
-                    .decoration(TextDecoration.ITALIC, false),
-                Component.text("• Activates zombie plague waves", NamedTextColor.YELLOW)
-                    .decoration(TextDecoration.ITALIC, false),
-                Component.text("", NamedTextColor.GRAY),
-                Component.text("⚠ Same cooldown rules apply", NamedTextColor.GRAY)
-                    .decoration(TextDecoration.ITALIC, true)
-            );
-            meta.lore(lore);
+            meta.displayName(BOOK_NAME);
+            meta.lore(BOOK_LORE);
 
             // Add persistent data to identify this as a ZP25 cursed book
             meta.getPersistentDataContainer().set(bookKey, PersistentDataType.STRING, BOOK_ID);
+            meta.getPersistentDataContainer().set(plugin.getCursedMechanicManager().getBookMarkerKey(), PersistentDataType.STRING, MECHANIC_ID);
         });
 
         return book;
@@ -101,6 +125,9 @@ public class ZombieRoyaleMechanic implements CursedMechanic {
             return false;
         }
 
+        // Create dramatic activation effects
+        createActivationEffects(player);
+
         // Use existing plague manager to start the curse
         boolean started = plugin.getPlagueManager().startPlague(player, false);
         if (started) {
@@ -116,15 +143,15 @@ public class ZombieRoyaleMechanic implements CursedMechanic {
 
     @Override
     public boolean canActivate(Player player) {
-        // Check if player already has active plague
-        if (hasActiveMechanic(player)) {
+        // Check if player already has an active curse of any mechanic
+        if (plugin.getCursedMechanicManager().hasActiveMechanic(player)) {
             player.sendMessage(Component.text("You already have an active curse!", NamedTextColor.RED));
             return false;
         }
 
         // Check cooldown
-        if (plugin.getCooldownManager().hasCooldown(player)) {
-            long remainingSeconds = plugin.getCooldownManager().getRemainingCooldownSeconds(player);
+        if (plugin.getCooldownManager().hasCooldown(player, MECHANIC_ID)) {
+            long remainingSeconds = plugin.getCooldownManager().getRemainingCooldownSeconds(player, MECHANIC_ID);
             long remainingMinutes = remainingSeconds / 60;
             player.sendMessage(Component.text("You must wait " + remainingMinutes + " minutes before starting another curse!", NamedTextColor.RED));
             return false;
@@ -148,6 +175,60 @@ public class ZombieRoyaleMechanic implements CursedMechanic {
         return plugin;
     }
 
+    @Override
+    public List<SessionSnapshot> snapshotSessions() {
+        return plugin.getPlagueManager().snapshotPlagues();
+    }
+
+    @Override
+    public void suspendSessions() {
+        plugin.getPlagueManager().suspendAllPlagues();
+    }
+
+    @Override
+    public boolean resumeSession(Player player, SessionSnapshot snapshot) {
+        return plugin.getPlagueManager().resumePlague(player, snapshot);
+    }
+
+    /**
+     * Creates dramatic visual and audio effects when the curse is activated
+     * @param player The player activating the curse
+     */
+    private void createActivationEffects(Player player) {
+        // Play ominous sounds
+        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_WITHER_SPAWN, 0.7f, 0.8f);
+        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_LIGHTNING_BOLT_THUNDER, 0.4f, 1.2f);
+        player.getWorld().playSound(player.getLocation(), Sound.ENTITY_ENDER_DRAGON_GROWL, 0.5f, 0.6f);
+
+        // Create particle effects around player
+        if (plugin.getConfigManager().isVisualEffectsEnabled()) {
+            // Dark energy burst around player
+            Location center = player.getLocation().add(0, 1, 0);
+            EffectManager effects = plugin.getEffectManager();
+            effects.submit(ParticleEmitter.burst(center, Particle.WITCH, 25, 1.0, 0.1));
+            effects.submit(ParticleEmitter.burst(center, Particle.SOUL_FIRE_FLAME, 15, 0.5, 0.05));
+            effects.submit(ParticleEmitter.burst(center, Particle.SMOKE, 30, 0.8, 0.1));
+
+            // Create sparkle effect around player
+            effects.submit(new ParticleEmitter(player.getLocation(), Particle.END_ROD, SPARKLE_SHAPE, 1, 0, 0, 1, 1));
+        }
+
+        // Apply knockback effect to the player
+        Vector knockback = new Vector(0, 0.5, 0);
+        // Add slight random horizontal knockback
+        knockback.setX((Math.random() - 0.5) * 0.3);
+        knockback.setZ((Math.random() - 0.5) * 0.3);
+        player.setVelocity(knockback);
+
+        // Send message to nearby players
+        for (Player nearbyPlayer : player.getWorld().getPlayers()) {
+            if (!nearbyPlayer.equals(player) &&
+                nearbyPlayer.getLocation().distance(player.getLocation()) <= 20) {
+                nearbyPlayer.sendMessage(Component.text(player.getName() + " has activated a cursed book! Dark energy surges through the air!", NamedTextColor.GOLD));
+            }
+        }
+    }
+
     /**
      * Checks if an ItemStack is a ZP25 cursed book
      * @param item The item to check
@@ -158,11 +239,6 @@ public class ZombieRoyaleMechanic implements CursedMechanic {
             return false;
         }
 
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) {
-            return false;
-        }
-
-        return meta.getPersistentDataContainer().has(bookKey, PersistentDataType.STRING);
+        return item.getPersistentDataContainer().has(bookKey, PersistentDataType.STRING);
     }
 }
@@ -0,0 +1,260 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.block.data.BlockData;
+import org.xpfarm.curse.utils.BlockKeys;
+import org.xpfarm.curse.utils.PalettedVolume;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The block states of a box of the world as they were before a curse changed it, and
+ * optionally as the curse left them once it was over.
+ *
+ * <p>Blocks are kept in a {@link PalettedVolume}, ordered bottom layer first so a restore
+ * puts supporting blocks back before the blocks resting on them. Only block states are
+ * kept: the contents of containers and other block entities are not. A block that no
+ * longer matches the state the curse left it in has been changed by a player since, and
+ * is not the curse's to put back.
+ */
+public final class ArenaSnapshot {
+
+    private static final int FORMAT_VERSION = 2;
+    // Snapshots from before the left-behind state was kept
+    private static final int FORMAT_VERSION_ORIGINAL_ONLY = 1;
+
+    private final UUID sessionId;
+    private final UUID worldId;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final PalettedVolume<BlockData> blocks;
+    private final PalettedVolume<BlockData> leftBehind;
+
+    private ArenaSnapshot(UUID sessionId, UUID worldId, int minX, int minY, int minZ,
+                          int sizeX, int sizeY, int sizeZ, PalettedVolume<BlockData> blocks,
+                          PalettedVolume<BlockData> leftBehind) {
+        this.sessionId = sessionId;
+        this.worldId = worldId;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+        this.blocks = blocks;
+        this.leftBehind = leftBehind;
+    }
+
+    /**
+     * Copies a box out of chunk snapshots. Safe to call from any thread.
+     * @param sessionId The session that is about to change the box
+     * @param worldId Its world
+     * @param min The box's lowest corner as {x, y, z}
+     * @param max The box's highest corner as {x, y, z}, inclusive
+     * @param chunks A snapshot of every chunk the box overlaps, by {@link BlockKeys#chunk}
+     */
+    public static ArenaSnapshot copy(UUID sessionId, UUID worldId, int[] min, int[] max, Map<Long, ChunkSnapshot> chunks) {
+        int sizeX = max[0] - min[0] + 1;
+        int sizeY = max[1] - min[1] + 1;
+        int sizeZ = max[2] - min[2] + 1;
+        PalettedVolume<BlockData> blocks = read(min[0], min[1], min[2], sizeX, sizeY, sizeZ, chunks);
+        return new ArenaSnapshot(sessionId, worldId, min[0], min[1], min[2], sizeX, sizeY, sizeZ, blocks, null);
+    }
+
+    /**
+     * Copies the same box again as the curse left it. Safe to call from any thread.
+     * @param chunks A snapshot of every chunk the box overlaps, by {@link BlockKeys#chunk}
+     * @return this snapshot with its left-behind state
+     */
+    public ArenaSnapshot withLeftBehind(Map<Long, ChunkSnapshot> chunks) {
+        PalettedVolume<BlockData> left = read(minX, minY, minZ, sizeX, sizeY, sizeZ, chunks);
+        return new ArenaSnapshot(sessionId, worldId, minX, minY, minZ, sizeX, sizeY, sizeZ, blocks, left);
+    }
+
+    private static PalettedVolume<BlockData> read(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ,
+                                                  Map<Long, ChunkSnapshot> chunks) {
+        PalettedVolume<BlockData> volume = null;
+        int index = 0;
+        for (int y = minY; y < minY + sizeY; y++) {
+            for (int z = minZ; z < minZ + sizeZ; z++) {
+                for (int x = minX; x < minX + sizeX; x++) {
+                    ChunkSnapshot chunk = chunks.get(BlockKeys.chunk(x >> 4, z >> 4));
+                    BlockData data = chunk.getBlockData(x & 15, y, z & 15);
+                    if (volume == null) {
+                        volume = new PalettedVolume<>(sizeX * sizeY * sizeZ, data);
+                    }
+                    volume.set(index++, data);
+                }
+            }
+        }
+        return volume;
+    }
+
+    public UUID getSessionId() { return sessionId; }
+
+    public UUID getWorldId() { return worldId; }
+
+    public int size() { return blocks.size(); }
+
+    /**
+     * The block state at an index, from 0 to {@link #size()}
+     */
+    public BlockData getBlock(int index) { return blocks.get(index); }
+
+    /**
+     * Whether the state the curse left the box in has been captured
+     */
+    public boolean hasLeftBehind() { return leftBehind != null; }
+
+    /**
+     * The block state the curse left at an index, or null if it was not captured
+     */
+    public BlockData getLeftBehind(int index) { return leftBehind != null ? leftBehind.get(index) : null; }
+
+    public int x(int index) { return minX + index % sizeX; }
+
+    public int y(int index) { return minY + index / (sizeX * sizeZ); }
+
+    public int z(int index) { return minZ + index / sizeX % sizeZ; }
+
+    /**
+     * Whether a block position is inside the box
+     */
+    public boolean contains(int x, int y, int z) {
+        return contains(x, y, z, 0);
+    }
+
+    /**
+     * Whether a block position is inside the box grown by a margin on every side
+     */
+    public boolean contains(int x, int y, int z, int margin) {
+        return x >= minX - margin && x < minX + sizeX + margin
+            && y >= minY - margin && y < minY + sizeY + margin
+            && z >= minZ - margin && z < minZ + sizeZ + margin;
+    }
+
+    /**
+     * The index of a block position inside the box
+     * @return the index, or -1 if the position is outside it
+     */
+    public int indexOf(int x, int y, int z) {
+        if (!contains(x, y, z)) return -1;
+        return ((y - minY) * sizeZ + (z - minZ)) * sizeX + (x - minX);
+    }
+
+    /**
+     * Writes the snapshot, with block states by their string form
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        writeUuid(out, sessionId);
+        writeUuid(out, worldId);
+        out.writeInt(minX);
+        out.writeInt(minY);
+        out.writeInt(minZ);
+        out.writeInt(sizeX);
+        out.writeInt(sizeY);
+        out.writeInt(sizeZ);
+
+        writeVolume(out, blocks);
+        out.writeBoolean(leftBehind != null);
+        if (leftBehind != null) {
+            writeVolume(out, leftBehind);
+        }
+    }
+
+    private static void writeVolume(DataOutputStream out, PalettedVolume<BlockData> volume) throws IOException {
+        List<BlockData> palette = volume.palette();
+        out.writeInt(palette.size());
+        for (BlockData data : palette) {
+            out.writeUTF(data.getAsString());
+        }
+        out.writeByte(volume.bits());
+        long[] data = volume.data();
+        out.writeInt(data.length);
+        for (long word : data) {
+            out.writeLong(word);
+        }
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write}. Main thread only, as block states are
+     * parsed by the server.
+     * @throws IOException if it is not a snapshot this version can read
+     */
+    public static ArenaSnapshot read(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION && version != FORMAT_VERSION_ORIGINAL_ONLY) {
+            throw new IOException("Unknown arena snapshot version " + version);
+        }
+        UUID sessionId = readUuid(in);
+        UUID worldId = readUuid(in);
+        int minX = in.readInt();
+        int minY = in.readInt();
+        int minZ = in.readInt();
+        int sizeX = in.readInt();
+        int sizeY = in.readInt();
+        int sizeZ = in.readInt();
+
+        int size = sizeX * sizeY * sizeZ;
+        PalettedVolume<BlockData> blocks = readVolume(in, size);
+        PalettedVolume<BlockData> leftBehind = null;
+        if (version != FORMAT_VERSION_ORIGINAL_ONLY && in.readBoolean()) {
+            leftBehind = readVolume(in, size);
+        }
+        return new ArenaSnapshot(sessionId, worldId, minX, minY, minZ, sizeX, sizeY, sizeZ, blocks, leftBehind);
+    }
+
+    private static PalettedVolume<BlockData> readVolume(DataInputStream in, int size) throws IOException {
+        int paletteSize = in.readInt();
+        List<BlockData> palette = new ArrayList<>(paletteSize);
+        for (int i = 0; i < paletteSize; i++) {
+            String state = in.readUTF();
+            try {
+                palette.add(Bukkit.createBlockData(state));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Unknown block state in arena snapshot: " + state, e);
+            }
+        }
+        int bits = in.readByte();
+        long[] data = new long[in.readInt()];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = in.readLong();
+        }
+
+        try {
+            return PalettedVolume.of(size, palette, bits, data);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt arena snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Per-player, per-mechanic cooldown expiries, with a compact line encoding for disk.
+ *
+ * <p>Expiries are absolute epoch milliseconds, so an entry written before a restart is
+ * still correct after it. Expired entries are dropped the moment they are read or
+ * purged, which keeps the store -- and the file written from it -- proportional to the
+ * number of cooldowns actually running rather than to every player ever seen.
+ *
+ * <p>Mutations happen on the main thread; {@link #purgeExpired} and {@link #encode} run on
+ * the async flush task. Both maps are concurrent so the writer sees a weakly consistent
+ * view without locking. A player's map is only changed and dropped inside an atomic
+ * compute on the outer map, so a cooldown set while the purge empties that map is never
+ * written into a map that has just been detached.
+ */
+public final class CooldownStore {
+
+    private final Map<UUID, Map<String, Long>> expiries = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    /**
+     * Sets a cooldown, replacing any existing one for the same player and key.
+     *
+     * @param playerId  the player
+     * @param key       the mechanic ID the cooldown applies to
+     * @param expiresAt epoch milliseconds at which the cooldown ends
+     */
+    public void set(UUID playerId, String key, long expiresAt) {
+        expiries.compute(playerId, (id, perPlayer) -> {
+            Map<String, Long> updated = perPlayer != null ? perPlayer : new ConcurrentHashMap<>();
+            updated.put(key, expiresAt);
+            return updated;
+        });
+        dirty.set(true);
+    }
+
+    /**
+     * The expiry for a player and key, or 0 if there is none or it has passed.
+     * An expired entry is removed on the way out.
+     */
+    public long getExpiry(UUID playerId, String key, long now) {
+        Map<String, Long> perPlayer = expiries.get(playerId);
+        if (perPlayer == null) {
+            return 0;
+        }
+        Long expiresAt = perPlayer.get(key);
+        if (expiresAt == null) {
+            return 0;
+        }
+        if (now >= expiresAt) {
+            remove(playerId, key);
+            return 0;
+        }
+        return expiresAt;
+    }
+
+    public void remove(UUID playerId, String key) {
+        boolean[] removed = {false};
+        expiries.computeIfPresent(playerId, (id, perPlayer) -> {
+            removed[0] = perPlayer.remove(key) != null;
+            return perPlayer.isEmpty() ? null : perPlayer;
+        });
+        if (removed[0]) {
+            dirty.set(true);
+        }
+    }
+
+    public void removeAll(UUID playerId) {
+        if (expiries.remove(playerId) != null) {
+            dirty.set(true);
+        }
+    }
+
+    public void clear() {
+        if (!expiries.isEmpty()) {
+            expiries.clear();
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * Drops every entry that has expired by {@code now}.
+     *
+     * @return the number of entries removed
+     */
+    public int purgeExpired(long now) {
+        int[] removed = {0};
+        for (UUID playerId : expiries.keySet()) {
+            // Atomic with set(), which may be adding to this player's map on the main thread
+            expiries.computeIfPresent(playerId, (id, perPlayer) -> {
+                for (Iterator<Long> it = perPlayer.values().iterator(); it.hasNext(); ) {
+                    if (now >= it.next()) {
+                        it.remove();
+                        removed[0]++;
+                    }
+                }
+                return perPlayer.isEmpty() ? null : perPlayer;
+            });
+        }
+        if (removed[0] > 0) {
+            dirty.set(true);
+        }
+        return removed[0];
+    }
+
+    /** The number of live entries across all players. */
+    public int size() {
+        int size = 0;
+        for (Map<String, Long> perPlayer : expiries.values()) {
+            size += perPlayer.size();
+        }
+        return size;
+    }
+
+    /**
+     * Clears the dirty flag.
+     *
+     * @return whether anything changed since the previous call
+     */
+    public boolean consumeDirty() {
+        return dirty.getAndSet(false);
+    }
+
+    /** Re-raises the dirty flag after a failed write so the next flush retries. */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * Encodes every entry still running at {@code now} as one line each:
+     * {@code <uuid> <key> <expiresAt>}.
+     */
+    public List<String> encode(long now) {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<UUID, Map<String, Long>> player : expiries.entrySet()) {
+            for (Map.Entry<String, Long> entry : player.getValue().entrySet()) {
+                if (entry.getValue() > now) {
+                    lines.add(player.getKey() + " " + entry.getKey() + " " + entry.getValue());
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Rebuilds a store from {@link #encode} output. Malformed and already-expired lines
+     * are skipped rather than failing the whole load.
+     */
+    public static CooldownStore decode(List<String> lines, long now) {
+        CooldownStore store = new CooldownStore();
+        for (String line : lines) {
+            String[] parts = line.trim().split(" ");
+            if (parts.length != 3) {
+                continue;
+            }
+            try {
+                UUID playerId = UUID.fromString(parts[0]);
+                long expiresAt = Long.parseLong(parts[2]);
+                if (expiresAt > now) {
+                    store.expiries.computeIfAbsent(playerId, id -> new ConcurrentHashMap<>()).put(parts[1], expiresAt);
+                }
+            } catch (IllegalArgumentException e) {
+                // Skip a corrupt line; the rest of the file is still usable
+            }
+        }
+        return store;
+    }
+}
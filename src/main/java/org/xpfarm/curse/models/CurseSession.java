@@ -0,0 +1,684 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.utils.EntityResolver;
+import org.xpfarm.curse.utils.HordeSplit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * The runtime shared by every mechanic's curse session.
+ *
+ * <p>Runs the wave loop: a wave's mobs are spawned at most {@code mobs.spawnsPerTick} per
+ * tick, tracked by UUID through the {@link org.xpfarm.curse.managers.CurseMobManager},
+ * and once every one is dead or accounted for the next wave starts after
+ * {@link #getWaveDelay(int)} ticks. A mechanic supplies its wave plan ({@link #getWaveCount()},
+ * {@link #getWaveSize(int)}, {@link #spawnWaveMob(int, int)}) and reacts through the
+ * {@code on...} hooks; tasks started through {@link #runTaskLater} and
+ * {@link #runTaskTimer} are cancelled when the session ends or is suspended.
+ *
+ * <p>Each wave moves through {@link WaveState}: {@code SPAWNING} while its mobs are queued,
+ * {@code FIGHTING} once they are all out, and {@code CLEARED} when the last one is dead
+ * or accounted for. Nothing polls for that: deaths, escapes and removals reported through
+ * the {@link org.xpfarm.curse.managers.CurseMobManager} drive it. A wave with an
+ * {@link #getWaveInterval(int) interval} also starts the next one when the interval runs
+ * out, whichever comes first. Its survivors, and any of its horde reserve, stay in play
+ * and count towards the next wave, whose mobs are added on top without exceeding
+ * {@code mobs.horde.maxAlive}; what does not fit joins the reserve.
+ *
+ * <p>A wave larger than {@code mobs.horde.maxAlive} is fought as a horde: only that many
+ * of its mobs exist at once, each with extra health, and every one that dies is replaced
+ * from the wave's reserve until the full count has been fought. The reserve counts
+ * towards {@link #getRemainingMobCount()}.
+ */
+public abstract class CurseSession implements CurseActivity, MobOwner {
+
+    /**
+     * Where the current wave is in its life
+     */
+    public enum WaveState {
+        /** No wave has started yet. */
+        IDLE,
+        /** The wave's mobs are being spawned. */
+        SPAWNING,
+        /** Every mob is out; the wave ends when the last is gone or its interval runs out. */
+        FIGHTING,
+        /** Every mob is gone; the next wave is scheduled. */
+        CLEARED
+    }
+
+    /** How long journalled mobs have to load after a resume before they are given up on. */
+    private static final long RESUME_TIMEOUT_TICKS = 200L;
+
+    protected final CursePlugin plugin;
+
+    private final UUID sessionId;
+    private final UUID playerId;
+    private final long startTime;
+    private final MobTracker mobTracker;
+    private final List<BukkitTask> tasks;
+    private final Random random;
+    private final RewardPool rewardPool;
+
+    private int currentWave;
+    private int totalKills;
+    private boolean active;
+    private boolean successful;
+    private WaveState waveState;
+    private int pendingSpawns;
+    private int spawnIndex;
+    private int hordeReserve;
+    private boolean hordeWave;
+    private BukkitTask spawnTask;
+    private BukkitTask intervalTask;
+
+    protected CurseSession(CursePlugin plugin, UUID sessionId, UUID playerId, long startTime) {
+        this.plugin = plugin;
+        this.sessionId = sessionId;
+        this.playerId = playerId;
+        this.startTime = startTime;
+        this.mobTracker = new MobTracker();
+        this.tasks = new ArrayList<>();
+        // Seeded from the session so its loot rolls can be reproduced from the session ID
+        this.random = new Random(sessionId.getMostSignificantBits() ^ sessionId.getLeastSignificantBits());
+        this.rewardPool = new RewardPool();
+        this.active = true;
+        this.waveState = WaveState.IDLE;
+
+        plugin.getCurseMobManager().registerSession(this);
+    }
+
+    // Wave plan
+
+    /**
+     * Get the number of waves; the session succeeds once the last one is cleared
+     * @return Wave count
+     */
+    protected abstract int getWaveCount();
+
+    /**
+     * Get how many mobs a wave spawns
+     * @param wave The wave, starting at 1
+     * @return Mob count
+     */
+    protected abstract int getWaveSize(int wave);
+
+    /**
+     * Spawns one mob of a wave. The runtime tracks it.
+     * @param wave The wave being spawned
+     * @param index The spawn's index within the wave
+     * @return The mob, or null if none could be placed
+     */
+    protected abstract Mob spawnWaveMob(int wave, int index);
+
+    /**
+     * Turns a survivor of the last wave into a mob of this one in place, under
+     * {@code mobs.recycle}. Mechanics that cannot recycle keep the default.
+     * @param mob The survivor
+     * @param wave The wave being spawned
+     * @param index The spawn's index within the wave
+     * @return true if the mob was upgraded and repositioned; false to remove it instead
+     */
+    protected boolean recycleWaveMob(Mob mob, int wave, int index) {
+        return false;
+    }
+
+    /**
+     * Get the ticks between the previous wave being cleared and a wave starting
+     * @param wave The wave about to start
+     * @return Delay in ticks
+     */
+    protected abstract long getWaveDelay(int wave);
+
+    /**
+     * Get how long a wave may run before the next one starts anyway, its survivors
+     * staying in play on top of the new wave. Never applies to the last wave.
+     * @param wave The wave
+     * @return Ticks from the wave starting, or 0 to wait for it to be cleared
+     */
+    protected long getWaveInterval(int wave) {
+        return 0L;
+    }
+
+    // Lifecycle hooks
+
+    /** Called as a wave starts, before its mobs spawn. */
+    protected void onWaveStarted(int wave, int size) {
+    }
+
+    /** Called once every mob of a wave is dead or accounted for. May end the session. */
+    protected void onWaveCleared(int wave) {
+    }
+
+    /** Called when the last wave is cleared. Ends the session successfully by default. */
+    protected void onAllWavesCleared() {
+        end(true);
+    }
+
+    /** Called after a wave resumed from the journal has its surviving mobs back. */
+    protected void onWaveResumed(int wave) {
+    }
+
+    /** Called when the session ends, after its tasks are stopped and mobs removed. */
+    protected void onEnded(boolean successful) {
+    }
+
+    /** Called when the session is suspended for shutdown, after its tasks are stopped. */
+    protected void onSuspended() {
+    }
+
+    /**
+     * Records this session on the leaderboard. Called once as the session ends.
+     */
+    protected void submitStats() {
+        plugin.getLeaderboardManager().updatePlayerStats(playerId, (CurseActivity) this);
+    }
+
+    // Waves
+
+    /**
+     * Clears whatever is left of the current wave and starts the given one. Under
+     * {@code mobs.recycle}, loaded survivors become the new wave's first mobs instead of
+     * being removed, and only the rest are spawned.
+     * @param wave The wave to start
+     */
+    protected void startWave(int wave) {
+        startWave(wave, false);
+    }
+
+    /**
+     * Starts a wave
+     * @param wave The wave to start
+     * @param carryOver Whether the current wave's mobs, queued spawns and horde reserve
+     *                  stay and count towards the new one, which is added on top; set when
+     *                  an interval runs out before the wave is cleared. Mobs already in play
+     *                  count against {@code mobs.horde.maxAlive} and the rest of the new
+     *                  wave goes to the reserve.
+     */
+    private void startWave(int wave, boolean carryOver) {
+        if (!active) {
+            return;
+        }
+        List<Mob> survivors = !carryOver && plugin.getConfigManager().isRecycleMobs() ? takeSurvivors() : List.of();
+        int carriedReserve = carryOver ? hordeReserve : 0;
+        if (!carryOver) {
+            clearMobs();
+            pendingSpawns = 0;
+        }
+        spawnIndex = 0;
+        currentWave = wave;
+        waveState = WaveState.SPAWNING;
+        startIntervalTimer();
+
+        int size = getWaveSize(wave);
+        // Carried-over mobs count against the cap, so missed intervals never stack past it
+        int inPlay = carryOver ? mobTracker.size() + pendingSpawns : 0;
+        int live = HordeSplit.live(size, plugin.getConfigManager().getHordeMaxAlive(), inPlay);
+        hordeReserve = size - live + carriedReserve;
+        hordeWave = hordeReserve > 0;
+        onWaveStarted(wave, size);
+
+        int recycled = 0;
+        for (Mob mob : survivors) {
+            if (recycled < live && recycleWaveMob(mob, wave, spawnIndex)) {
+                spawnIndex++;
+                recycled++;
+                scaleHordeHealth(mob);
+                trackMob(mob);
+            } else {
+                mob.remove();
+            }
+        }
+        if (recycled > 0) {
+            onMobsChanged();
+        }
+        spawnMobs(live - recycled);
+    }
+
+    /**
+     * Stops tracking the loaded, living mobs so they survive {@link #clearMobs()}
+     * @return The survivors
+     */
+    private List<Mob> takeSurvivors() {
+        List<Mob> survivors = new ArrayList<>();
+        for (UUID mobId : mobTracker.loadedIds()) {
+            if (EntityResolver.entity(mobId) instanceof Mob mob && !mob.isDead()) {
+                mobTracker.remove(mobId);
+                survivors.add(mob);
+            }
+        }
+        return survivors;
+    }
+
+    /**
+     * Queues mobs for the current wave. They are spawned over the following ticks, at
+     * most {@code mobs.spawnsPerTick} per tick.
+     * @param count Mobs to spawn
+     */
+    protected void spawnMobs(int count) {
+        if (count <= 0) {
+            if (waveState == WaveState.SPAWNING) {
+                waveState = WaveState.FIGHTING;
+            }
+            checkWaveCleared();
+            return;
+        }
+        pendingSpawns += count;
+        if (spawnTask == null) {
+            spawnTask = runTaskTimer(this::spawnBatch, 0L, 1L);
+        }
+    }
+
+    private void spawnBatch() {
+        int budget = plugin.getConfigManager().getSpawnsPerTick();
+        while (active && pendingSpawns > 0 && budget-- > 0) {
+            pendingSpawns--;
+            Mob mob = spawnWaveMob(currentWave, spawnIndex++);
+            if (mob != null) {
+                scaleHordeHealth(mob);
+                trackMob(mob);
+            }
+        }
+
+        if (!active || pendingSpawns == 0) {
+            spawnTask.cancel();
+            spawnTask = null;
+            pendingSpawns = 0;
+            if (waveState == WaveState.SPAWNING) {
+                waveState = WaveState.FIGHTING;
+            }
+            onMobsChanged();
+        }
+    }
+
+    private void scaleHordeHealth(Mob mob) {
+        double scale = plugin.getConfigManager().getHordeHealthScale();
+        if (!hordeWave || scale == 1.0) {
+            return;
+        }
+        AttributeInstance maxHealth = mob.getAttribute(Attribute.MAX_HEALTH);
+        if (maxHealth != null) {
+            maxHealth.setBaseValue(maxHealth.getBaseValue() * scale);
+            mob.setHealth(maxHealth.getValue());
+        }
+    }
+
+    /**
+     * Replaces a horde mob that is gone with one from the wave's reserve, if any is left
+     */
+    private void replenishHorde() {
+        if (active && waveState != WaveState.CLEARED && hordeReserve > 0) {
+            hordeReserve--;
+            spawnMobs(1);
+        }
+    }
+
+    private void checkWaveCleared() {
+        if (!active || waveState != WaveState.FIGHTING || pendingSpawns > 0 || !mobTracker.isEmpty()) {
+            return;
+        }
+        if (hordeReserve > 0) {
+            // Mobs lost without a replacement, e.g. spawns that found no room; send more
+            int batch = Math.min(hordeReserve, Math.max(1, plugin.getConfigManager().getHordeMaxAlive()));
+            hordeReserve -= batch;
+            spawnMobs(batch);
+            return;
+        }
+        waveState = WaveState.CLEARED;
+        cancelIntervalTimer();
+        payOutRewardPool();
+        onWaveCleared(currentWave);
+        if (active) {
+            scheduleNextWave();
+        }
+    }
+
+    private void scheduleNextWave() {
+        if (currentWave >= getWaveCount()) {
+            onAllWavesCleared();
+            return;
+        }
+        int next = currentWave + 1;
+        runTaskLater(() -> startWave(next), getWaveDelay(next));
+    }
+
+    private void startIntervalTimer() {
+        cancelIntervalTimer();
+        long interval = getWaveInterval(currentWave);
+        if (interval <= 0 || currentWave >= getWaveCount()) {
+            return;
+        }
+        int wave = currentWave;
+        intervalTask = runTaskLater(() -> {
+            intervalTask = null;
+            if (currentWave == wave && waveState != WaveState.CLEARED) {
+                startWave(wave + 1, true);
+            }
+        }, interval);
+    }
+
+    private void cancelIntervalTimer() {
+        if (intervalTask != null) {
+            intervalTask.cancel();
+            intervalTask = null;
+        }
+    }
+
+    // Mobs
+
+    /**
+     * Tracks a mob as part of the current wave
+     * @param mob The mob
+     */
+    protected void trackMob(Entity mob) {
+        plugin.getCurseMobManager().trackMob(mob, this);
+    }
+
+    /**
+     * Handles the death of one of this session's mobs. Only the cursed player, or no
+     * player at all, gets credit for the kill; either way the mob stops counting.
+     * @param mob The mob that died
+     * @param killer The player who killed it, or null
+     * @return true if the kill was credited to the session
+     */
+    public boolean handleMobDeath(Entity mob, Player killer) {
+        if (!mobTracker.remove(mob.getUniqueId())) {
+            return false;
+        }
+
+        boolean credited = isCredited(killer);
+        if (credited) {
+            totalKills++;
+        }
+        replenishHorde();
+        onMobsChanged();
+        return credited;
+    }
+
+    /**
+     * Whether a kill by this player counts for the session: only the cursed player's
+     * kills, or kills by no player at all, do
+     * @param killer The killing player, or null
+     */
+    public boolean isCredited(Player killer) {
+        return killer == null || killer.getUniqueId().equals(playerId);
+    }
+
+    /**
+     * Pays the pooled kill XP and drops to the player: XP straight to them, items into
+     * their reward vault. XP pooled while they are offline is forfeit.
+     */
+    protected void payOutRewardPool() {
+        if (rewardPool.isEmpty()) {
+            return;
+        }
+        Player player = getPlayer();
+        int experience = rewardPool.takeExperience();
+        if (player != null && experience > 0) {
+            player.giveExp(experience, true);
+        }
+        plugin.getRewardVaultManager().deposit(playerId, rewardPool.takeItems());
+    }
+
+    /**
+     * Called whenever the tracked mobs change. Sessions with a display to refresh
+     * override this and call through.
+     */
+    protected void onMobsChanged() {
+        checkWaveCleared();
+    }
+
+    /**
+     * Stops tracking loaded mobs that are dead or gone, e.g. removed by another plugin
+     */
+    public void pruneDeadMobs() {
+        int removed = mobTracker.removeLoadedIf(mobId -> {
+            Entity mob = EntityResolver.entity(mobId);
+            return mob == null || mob.isDead();
+        });
+        if (removed > 0) {
+            for (int i = 0; i < removed; i++) {
+                replenishHorde();
+            }
+            onMobsChanged();
+        }
+    }
+
+    /**
+     * Removes every loaded mob and stops tracking all of them; unloaded ones are left
+     * to the reaper
+     */
+    protected void clearMobs() {
+        for (UUID mobId : mobTracker.loadedIds()) {
+            Entity mob = EntityResolver.entity(mobId);
+            if (mob != null && !mob.isDead()) {
+                mob.remove();
+            }
+        }
+        mobTracker.clear();
+    }
+
+    @Override
+    public void onMobEscaped(UUID mobId) {
+        replenishHorde();
+        onMobsChanged();
+    }
+
+    @Override
+    public void spawnReplacement() {
+        if (active && waveState != WaveState.CLEARED) {
+            spawnMobs(1);
+        }
+    }
+
+    // Resume
+
+    /**
+     * Restores the progress of a session rebuilt from the journal
+     * @param wave The wave it had reached
+     * @param kills Its credited kills
+     */
+    protected void restoreProgress(int wave, int kills) {
+        this.currentWave = wave;
+        this.totalKills = kills;
+    }
+
+    /**
+     * Restores how much of a journalled horde wave was still in reserve
+     * @param reserve Mobs left to spawn
+     */
+    protected void restoreHordeReserve(int reserve) {
+        this.hordeReserve = Math.max(0, reserve);
+        this.hordeWave = hordeReserve > 0;
+    }
+
+    /**
+     * Re-attaches the journalled mobs. Loaded ones are tracked now; the rest are tracked as
+     * unloaded and re-attached by the {@link org.xpfarm.curse.managers.CurseMobManager}
+     * as their chunks load.
+     * @param mobIds The mobs in the snapshot
+     */
+    protected void reattachMobs(List<UUID> mobIds) {
+        Player player = getPlayer();
+        for (UUID mobId : mobIds) {
+            Entity entity = EntityResolver.entity(mobId);
+            if (entity == null) {
+                mobTracker.addUnloaded(mobId);
+            } else if (entity instanceof Mob mob && !mob.isDead()) {
+                trackMob(mob);
+                mob.setTarget(player);
+            }
+        }
+    }
+
+    /**
+     * Carries on from the state the current wave was in when it was journalled. Mobs that
+     * have not loaded within {@link #RESUME_TIMEOUT_TICKS} are given up on: the wave is
+     * replayed if none of its mobs came back, otherwise each missing one is replaced.
+     * @param betweenWaves Whether the wave had already been cleared
+     */
+    protected void resumeWave(boolean betweenWaves) {
+        if (betweenWaves) {
+            waveState = WaveState.CLEARED;
+            scheduleNextWave();
+        } else if (mobTracker.isEmpty()) {
+            // Nothing was journalled - replay the wave rather than skip it
+            startWave(currentWave);
+        } else {
+            // The interval restarts in full; how much had run is not journalled
+            waveState = WaveState.FIGHTING;
+            startIntervalTimer();
+            onWaveResumed(currentWave);
+            if (mobTracker.unloadedCount() > 0) {
+                int wave = currentWave;
+                runTaskLater(() -> expireResumedMobs(wave), RESUME_TIMEOUT_TICKS);
+            }
+        }
+    }
+
+    private void expireResumedMobs(int wave) {
+        if (currentWave != wave || waveState == WaveState.CLEARED) {
+            return;
+        }
+        List<UUID> missing = mobTracker.unloadedIds();
+        if (missing.isEmpty()) {
+            return;
+        }
+        // Any that load later are orphans and are reaped
+        for (UUID mobId : missing) {
+            mobTracker.remove(mobId);
+        }
+        if (mobTracker.isEmpty() && pendingSpawns == 0) {
+            startWave(wave);
+        } else {
+            spawnMobs(missing.size());
+        }
+    }
+
+    // Ending
+
+    /**
+     * Ends the session: stops its tasks, removes its mobs, runs {@link #onEnded} and
+     * records its stats. Does nothing if it has already ended or been suspended.
+     * @param successful Whether the player beat the curse
+     */
+    public void end(boolean successful) {
+        if (!active) {
+            return;
+        }
+        active = false;
+        this.successful = successful;
+
+        cancelTasks();
+
+        // Any mobs left in unloaded chunks are reaped when they load
+        clearMobs();
+        plugin.getCurseMobManager().unregisterSession(sessionId);
+        payOutRewardPool();
+
+        onEnded(successful);
+        submitStats();
+    }
+
+    /**
+     * Stops the session for shutdown without ending it. No stats are recorded and the
+     * mobs stay in the world, so the session journal can resume it.
+     */
+    public void suspend() {
+        if (!active) {
+            return;
+        }
+        active = false;
+        cancelTasks();
+        payOutRewardPool();
+        onSuspended();
+    }
+
+    // Tasks
+
+    /**
+     * Schedules a one-off task that is cancelled with the session
+     */
+    protected BukkitTask runTaskLater(Runnable task, long delay) {
+        return track(plugin.getServer().getScheduler().runTaskLater(plugin, task, delay));
+    }
+
+    /**
+     * Schedules a repeating task that is cancelled with the session
+     */
+    protected BukkitTask runTaskTimer(Runnable task, long delay, long period) {
+        return track(plugin.getServer().getScheduler().runTaskTimer(plugin, task, delay, period));
+    }
+
+    /**
+     * Registers a task started elsewhere so it is cancelled with the session
+     */
+    protected BukkitTask track(BukkitTask task) {
+        BukkitScheduler scheduler = plugin.getServer().getScheduler();
+        tasks.removeIf(t -> t.isCancelled() || !scheduler.isQueued(t.getTaskId()) && !scheduler.isCurrentlyRunning(t.getTaskId()));
+        tasks.add(task);
+        return task;
+    }
+
+    private void cancelTasks() {
+        for (BukkitTask task : tasks) {
+            task.cancel();
+        }
+        tasks.clear();
+        spawnTask = null;
+        intervalTask = null;
+        pendingSpawns = 0;
+    }
+
+    // Getters
+
+    @Override
+    public UUID getSessionId() { return sessionId; }
+    @Override
+    public UUID getPlayerId() { return playerId; }
+    /** The cursed player, or null while they are offline. Resolved on each call, never held. */
+    public Player getPlayer() { return EntityResolver.player(playerId); }
+    @Override
+    public MobTracker getMobTracker() { return mobTracker; }
+    @Override
+    public int getCurrentRound() { return currentWave; }
+    @Override
+    public int getTotalKills() { return totalKills; }
+    @Override
+    public long getStartTime() { return startTime; }
+    @Override
+    public boolean isSuccessful() { return successful; }
+    public boolean isActive() { return active; }
+    public boolean isBetweenWaves() { return waveState == WaveState.CLEARED; }
+    public WaveState getWaveState() { return waveState; }
+    /** Horde mobs not yet spawned, for the journal. */
+    public int getHordeReserve() { return hordeReserve; }
+    /**
+     * Mobs left before the wave is cleared: tracked, waiting to spawn and in the horde
+     * reserve
+     */
+    public int getRemainingMobCount() { return mobTracker.size() + pendingSpawns + hordeReserve; }
+    /** Kill XP and drops waiting to be paid out when the wave clears. */
+    public RewardPool getRewardPool() { return rewardPool; }
+    /** This session's own random, for reward rolls. Main thread only. */
+    public Random getRandom() { return random; }
+}
@@ -0,0 +1,51 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import org.bukkit.inventory.ItemStack;
+import org.xpfarm.curse.utils.AliasTable;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A weighted set of reward items, compiled from config. Immutable; each roll is a copy
+ * of a resolved item, drawn in constant time.
+ */
+public final class LootTable {
+
+    /** A table with nothing in it */
+    public static final LootTable EMPTY = new LootTable(null);
+
+    private final AliasTable<ItemStack> items;
+
+    private LootTable(AliasTable<ItemStack> items) {
+        this.items = items;
+    }
+
+    /**
+     * @param items The resolved items
+     * @param weights Each item's relative weight
+     */
+    public LootTable(List<ItemStack> items, List<Double> weights) {
+        this(new AliasTable<>(items, weights));
+    }
+
+    /**
+     * Draws one item
+     * @param random The session's random
+     * @return A new ItemStack, or null if the table is empty
+     */
+    public ItemStack roll(Random random) {
+        return items != null ? items.sample(random).clone() : null;
+    }
+
+    public boolean isEmpty() { return items == null; }
+}
@@ -0,0 +1,57 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import org.bukkit.Location;
+
+import java.util.UUID;
+
+/**
+ * A curse session that owns mobs, as seen by the
+ * {@link org.xpfarm.curse.managers.CurseMobManager}.
+ */
+public interface MobOwner {
+
+    /**
+     * Get the ID of this session, as tagged on its mobs.
+     * @return Session ID
+     */
+    UUID getSessionId();
+
+    /**
+     * Get the cursed player this session's mobs hunt.
+     * @return Player UUID
+     */
+    UUID getPlayerId();
+
+    /**
+     * Get the tracker holding the mobs this session is waiting on.
+     * @return Mob tracker
+     */
+    MobTracker getMobTracker();
+
+    /**
+     * Get where a mob recalled from an unloaded chunk is returned to.
+     * @return Arena center
+     */
+    Location getArenaCenter();
+
+    /**
+     * Called once a mob has been dropped from the tracker because its chunk unloaded,
+     * so the session can re-check whether its round is over.
+     * @param mobId The mob that escaped
+     */
+    void onMobEscaped(UUID mobId);
+
+    /**
+     * Spawns a fresh mob in the arena in place of one lost to an unloaded chunk.
+     */
+    void spawnReplacement();
+}
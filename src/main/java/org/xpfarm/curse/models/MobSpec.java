@@ -0,0 +1,131 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.entity.Ageable;
+import org.bukkit.entity.Mob;
+import org.bukkit.inventory.EntityEquipment;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+
+import net.kyori.adventure.text.Component;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * One kind of mob in a compiled wave plan: its type and everything applied to it as it
+ * spawns, already resolved from config. Immutable.
+ */
+public final class MobSpec {
+
+    private final Class<? extends Mob> type;
+    private final boolean baby;
+    private final double healthMultiplier;
+    private final PotionEffect speed;
+    private final Map<EquipmentSlot, ItemStack> equipment;
+    private final Component name;
+
+    /**
+     * @param type Entity class to spawn
+     * @param baby Spawn as a baby where the mob has one
+     * @param healthMultiplier Multiplier on the mob's base max health
+     * @param speed Speed effect to apply, or null
+     * @param equipment Items to equip by slot
+     * @param name Custom name, or null
+     */
+    public MobSpec(Class<? extends Mob> type, boolean baby, double healthMultiplier, PotionEffect speed,
+                   Map<EquipmentSlot, ItemStack> equipment, Component name) {
+        this.type = type;
+        this.baby = baby;
+        this.healthMultiplier = healthMultiplier;
+        this.speed = speed;
+        this.equipment = Map.copyOf(equipment);
+        this.name = name;
+    }
+
+    /**
+     * Spawns this mob, fully set up before it is added to the world
+     * @param location Where to spawn it
+     * @param prepare Runs after the spec is applied and before the mob is added, e.g. to
+     *                tag it with its session and limit who is sent it
+     * @return The mob
+     */
+    public Mob spawn(Location location, Consumer<? super Mob> prepare) {
+        World world = location.getWorld();
+        return world.spawn(location, type, mob -> {
+            apply(mob);
+            prepare.accept(mob);
+        });
+    }
+
+    /**
+     * Turns an existing mob into this one in place: whatever an earlier spec applied is
+     * reset, then this spec is applied and the mob healed to full
+     * @param mob The mob to upgrade
+     * @return false if the mob is not of this spec's type
+     */
+    public boolean upgrade(Mob mob) {
+        if (!type.isInstance(mob)) {
+            return false;
+        }
+
+        if (!baby && mob instanceof Ageable ageable) {
+            ageable.setAdult();
+        }
+        mob.removePotionEffect(PotionEffectType.SPEED);
+        mob.getEquipment().clear();
+        mob.customName(null);
+        mob.setCustomNameVisible(false);
+
+        apply(mob);
+        return true;
+    }
+
+    private void apply(Mob mob) {
+        if (baby && mob instanceof Ageable ageable) {
+            ageable.setBaby();
+        }
+
+        // From the type's default so an upgraded mob does not compound multipliers
+        AttributeInstance maxHealth = mob.getAttribute(Attribute.MAX_HEALTH);
+        if (maxHealth != null) {
+            maxHealth.setBaseValue(maxHealth.getDefaultValue() * healthMultiplier);
+            mob.setHealth(maxHealth.getValue());
+        }
+
+        if (speed != null) {
+            mob.addPotionEffect(speed);
+        }
+
+        // Curse gear is not loot; rewards come from the loot tables
+        EntityEquipment gear = mob.getEquipment();
+        for (Map.Entry<EquipmentSlot, ItemStack> entry : equipment.entrySet()) {
+            gear.setItem(entry.getKey(), entry.getValue().clone());
+            gear.setDropChance(entry.getKey(), 0.0f);
+        }
+
+        // Prevent entity from disappearing naturally
+        mob.setPersistent(true);
+
+        if (name != null) {
+            mob.customName(name);
+            mob.setCustomNameVisible(true);
+        }
+    }
+
+    public Class<? extends Mob> getType() { return type; }
+}
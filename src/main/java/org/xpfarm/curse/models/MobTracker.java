@@ -0,0 +1,157 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * The mobs a curse session is waiting on, by UUID only.
+ *
+ * <p>No entity handle is ever stored, so a session can never keep a dead or unloaded
+ * entity reachable; callers resolve handles through
+ * {@link org.xpfarm.curse.utils.EntityResolver} when they need one. Each mob is marked
+ * loaded or unloaded as its chunk comes and goes. Unloaded mobs still count towards
+ * {@link #size()}: a round is only over once every mob is accounted for, by death or by
+ * the session's unload policy.
+ */
+public class MobTracker {
+
+    // Mob UUID -> whether its chunk is loaded
+    private final Map<UUID, Boolean> mobs = new LinkedHashMap<>();
+    private int unloaded;
+
+    /** Tracks a loaded mob, or marks one already tracked as loaded. */
+    public void add(UUID id) {
+        Boolean previous = mobs.put(id, Boolean.TRUE);
+        if (Boolean.FALSE.equals(previous)) {
+            unloaded--;
+        }
+    }
+
+    /**
+     * Tracks a mob whose chunk is not loaded, e.g. one journalled before a restart. It is
+     * marked loaded by {@link #reload} once it shows up. A mob already tracked is left as is.
+     */
+    public void addUnloaded(UUID id) {
+        if (mobs.putIfAbsent(id, Boolean.FALSE) == null) {
+            unloaded++;
+        }
+    }
+
+    /** @return true if the mob was tracked */
+    public boolean remove(UUID id) {
+        Boolean previous = mobs.remove(id);
+        if (Boolean.FALSE.equals(previous)) {
+            unloaded--;
+        }
+        return previous != null;
+    }
+
+    public boolean contains(UUID id) {
+        return mobs.containsKey(id);
+    }
+
+    public boolean isLoaded(UUID id) {
+        return Boolean.TRUE.equals(mobs.get(id));
+    }
+
+    /**
+     * Marks a tracked mob whose chunk has unloaded.
+     * @return true if the mob was tracked and loaded
+     */
+    public boolean unload(UUID id) {
+        if (!isLoaded(id)) {
+            return false;
+        }
+        mobs.put(id, Boolean.FALSE);
+        unloaded++;
+        return true;
+    }
+
+    /**
+     * Marks a tracked mob whose chunk has loaded again.
+     * @return true if the mob was tracked and unloaded
+     */
+    public boolean reload(UUID id) {
+        if (!Boolean.FALSE.equals(mobs.get(id))) {
+            return false;
+        }
+        add(id);
+        return true;
+    }
+
+    /** Every tracked mob, loaded or not. */
+    public int size() {
+        return mobs.size();
+    }
+
+    public boolean isEmpty() {
+        return mobs.isEmpty();
+    }
+
+    public int unloadedCount() {
+        return unloaded;
+    }
+
+    /** A copy of the UUIDs of every tracked mob, loaded or not. */
+    public List<UUID> ids() {
+        return new ArrayList<>(mobs.keySet());
+    }
+
+    /** A copy of the UUIDs of the unloaded mobs. */
+    public List<UUID> unloadedIds() {
+        List<UUID> ids = new ArrayList<>(unloaded);
+        for (Map.Entry<UUID, Boolean> entry : mobs.entrySet()) {
+            if (!entry.getValue()) {
+                ids.add(entry.getKey());
+            }
+        }
+        return ids;
+    }
+
+    /** A copy of the UUIDs of the loaded mobs. */
+    public List<UUID> loadedIds() {
+        List<UUID> ids = new ArrayList<>(mobs.size() - unloaded);
+        for (Map.Entry<UUID, Boolean> entry : mobs.entrySet()) {
+            if (entry.getValue()) {
+                ids.add(entry.getKey());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Stops tracking every loaded mob matching the filter. Unloaded mobs are never
+     * removed this way; their state cannot be known until they load.
+     * @return the number of mobs removed
+     */
+    public int removeLoadedIf(Predicate<UUID> filter) {
+        int removed = 0;
+        for (Iterator<Map.Entry<UUID, Boolean>> it = mobs.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<UUID, Boolean> entry = it.next();
+            if (entry.getValue() && filter.test(entry.getKey())) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public void clear() {
+        mobs.clear();
+        unloaded = 0;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.xpfarm.curse.utils.ParticleShape;
+
+/**
+ * A timed particle effect, submitted to the {@link org.xpfarm.curse.managers.EffectManager}
+ * instead of running its own task.
+ *
+ * <p>Every {@code period} ticks until {@code duration} runs out, the emitter puts
+ * {@code count} particles at each point of its {@link ParticleShape}, offset from its
+ * origin. A one-shot burst is an emitter with a duration of one tick. Immutable.
+ */
+public final class ParticleEmitter {
+
+    private final Location origin;
+    private final Particle particle;
+    private final ParticleShape shape;
+    private final int count;
+    private final double spread;
+    private final double speed;
+    private final int period;
+    private final int duration;
+
+    /**
+     * @param origin Where the effect is centred
+     * @param particle Particle to show; must take no extra data
+     * @param shape Offsets from the origin to emit at
+     * @param count Particles per point per emission
+     * @param spread Random offset on each axis
+     * @param speed Particle speed
+     * @param period Ticks between emissions
+     * @param duration Ticks the emitter lives for
+     */
+    public ParticleEmitter(Location origin, Particle particle, ParticleShape shape, int count,
+                           double spread, double speed, int period, int duration) {
+        this.origin = origin.clone();
+        this.particle = particle;
+        this.shape = shape;
+        this.count = count;
+        this.spread = spread;
+        this.speed = speed;
+        this.period = Math.max(1, period);
+        this.duration = Math.max(1, duration);
+    }
+
+    /**
+     * An emitter with a single point at its origin
+     */
+    public ParticleEmitter(Location origin, Particle particle, int count, double spread, double speed,
+                           int period, int duration) {
+        this(origin, particle, ParticleShape.POINT, count, spread, speed, period, duration);
+    }
+
+    /**
+     * A single emission at the origin
+     */
+    public static ParticleEmitter burst(Location origin, Particle particle, int count, double spread, double speed) {
+        return new ParticleEmitter(origin, particle, count, spread, speed, 1, 1);
+    }
+
+    /**
+     * Get how many particles one emission sends to one viewer
+     * @return Particle count
+     */
+    public int getCost() {
+        return count * shape.size();
+    }
+
+    public Location getOrigin() { return origin; }
+    public Particle getParticle() { return particle; }
+    public ParticleShape getShape() { return shape; }
+    public int getCount() { return count; }
+    public double getSpread() { return spread; }
+    public double getSpeed() { return speed; }
+    public int getPeriod() { return period; }
+    public int getDuration() { return duration; }
+}
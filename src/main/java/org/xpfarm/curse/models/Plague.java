@@ -1,71 +1,85 @@
 package org.xpfarm.curse.models;
 
 import org.bukkit.Location;
-import org.bukkit.entity.Entity;
+import org.bukkit.entity.Mob;
 import org.bukkit.entity.Player;
 import org.bukkit.boss.BossBar;
 import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.scheduler.BukkitTask;
 import org.xpfarm.curse.CursePlugin;
+import org.xpfarm.curse.mechanics.ZombieRoyaleMechanic;
 
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
-public class Plague implements CurseActivity {
+/**
+ * A ZP25 curse session. Rounds from the {@code waves.zp25} plan keep coming; after
+ * {@code plague.maxRounds} every round is the plan's final wave, so only the antidote
+ * ends it.
+ */
+public class Plague extends CurseSession {
 
-    private final UUID playerId;
-    private final Player player;
     private final Location startLocation;
-    private final CursePlugin plugin;
 
-    private int currentRound;
-    private int totalKills;
-    private long startTime;
     private long roundStartTime; // Track when current round started for timer
-    private boolean isActive;
     private boolean hasAntidote;
     private int initialMobCount; // Track initial mobs for health bar progress
     private boolean isOutsideArea; // Track if player is outside cursed area
     private boolean hasBeenWarned; // Track if player has been warned about leaving
     private long lastWarningTime; // Track last warning time to prevent spam
-    private boolean wasSuccessful; // Track if the plague was completed successfully
 
     private BossBar bossBar;
-    private List<Entity> activeMobs;
-    private BukkitTask roundTask;
     private BukkitTask timeoutTask;
 
     public Plague(Player player, CursePlugin plugin) {
-        this.playerId = player.getUniqueId();
-        this.player = player;
-        this.startLocation = player.getLocation().clone();
-        this.plugin = plugin;
-
-        this.currentRound = 1;
-        this.totalKills = 0;
-        this.startTime = System.currentTimeMillis();
-        this.roundStartTime = this.startTime; // Initialize round timer
-        this.isActive = true;
+        this(player, plugin, UUID.randomUUID(), player.getLocation().clone(), System.currentTimeMillis());
+    }
+
+    /**
+     * Rebuilds a plague from a journal snapshot. Mobs are re-attached separately by
+     * {@link #resume(SessionSnapshot)} once the plague is registered with the manager.
+     */
+    public Plague(Player player, CursePlugin plugin, SessionSnapshot snapshot, Location startLocation) {
+        this(player, plugin, snapshot.sessionId(), startLocation, snapshot.startTime());
+
+        restoreProgress(snapshot.round(), snapshot.kills());
+        this.hasAntidote = snapshot.antidote();
+        this.roundStartTime = System.currentTimeMillis() - snapshot.roundElapsed();
+        String initialMobs = snapshot.extra("initialMobs");
+        this.initialMobCount = initialMobs != null ? Integer.parseInt(initialMobs) : 0;
+        String hordeReserve = snapshot.extra("hordeReserve");
+        restoreHordeReserve(hordeReserve != null ? Integer.parseInt(hordeReserve) : 0);
+
+        if (isFinalWave(getCurrentRound())) {
+            updateBossBar("The Curse - Final Wave (Use Antidote!)", BarColor.PURPLE);
+        } else {
+            updateBossBar();
+        }
+    }
+
+    private Plague(Player player, CursePlugin plugin, UUID sessionId, Location startLocation, long startTime) {
+        super(plugin, sessionId, player.getUniqueId(), startTime);
+        this.startLocation = startLocation;
+
+        this.roundStartTime = startTime; // Initialize round timer
         this.hasAntidote = false;
         this.isOutsideArea = false;
         this.hasBeenWarned = false;
         this.lastWarningTime = 0;
-        this.wasSuccessful = false;
 
-        this.activeMobs = new ArrayList<>();
-
-        initializeBossBar();
+        initializeBossBar(player);
 
         // Start HUD display for all nearby players
         plugin.getHUDManager().startHUD(player, this);
         plugin.getHUDManager().updateHUDForAllNearbyPlayers(this);
     }
 
-    private void initializeBossBar() {
+    private void initializeBossBar(Player player) {
         bossBar = plugin.getServer().createBossBar(
-            "The Curse - Round " + currentRound,
+            "The Curse - Round 1",
             BarColor.RED,
             BarStyle.SEGMENTED_10
         );
@@ -76,34 +90,68 @@ public class Plague implements CurseActivity {
         updateBossBarVisibility();
     }
 
-    public void nextRound() {
-        currentRound++;
-        updateBossBar();
-        updateBossBarVisibility();
+    /**
+     * Starts the first round
+     */
+    public void start() {
+        startWave(1);
+    }
 
-        // Update HUD for all nearby players
-        plugin.getHUDManager().updateHUDForAllNearbyPlayers(this);
+    // Wave plan
 
-        // Check if this is the final wave
-        if (currentRound > plugin.getConfigManager().getMaxRounds()) {
-            startFinalWave();
-        } else {
-            spawnNextWave();
-        }
+    @Override
+    protected int getWaveCount() {
+        // Never runs out: past maxRounds every round is a final wave
+        return Integer.MAX_VALUE;
     }
 
-    public void spawnNextWave() {
-        // Clear previous mobs
-        clearActiveMobs();
+    @Override
+    protected int getWaveSize(int wave) {
+        Player player = getPlayer();
+        int level = plugin.getConfigManager().isScaleWithXP() && player != null ? player.getLevel() : 0;
+        return getWaveSpec(wave).count(level);
+    }
 
-        // Reset round timer
-        this.roundStartTime = System.currentTimeMillis();
+    @Override
+    protected Mob spawnWaveMob(int wave, int index) {
+        return plugin.getPlagueManager().spawnPlagueMob(this, getWaveSpec(wave).mob(index));
+    }
+
+    @Override
+    protected boolean recycleWaveMob(Mob mob, int wave, int index) {
+        return plugin.getPlagueManager().recyclePlagueMob(this, mob, getWaveSpec(wave).mob(index));
+    }
+
+    @Override
+    protected long getWaveDelay(int wave) {
+        return getWaveSpec(wave).getDelay();
+    }
 
-        // Calculate mob count and types based on round and player XP
-        int mobCount = calculateMobCount();
+    private WaveSpec getWaveSpec(int wave) {
+        WavePlan plan = plugin.getWavePlanManager().getPlan(ZombieRoyaleMechanic.MECHANIC_ID);
+        return isFinalWave(wave) ? plan.finalWave() : plan.wave(wave);
+    }
+
+    private boolean isFinalWave(int wave) {
+        return wave > plugin.getConfigManager().getMaxRounds();
+    }
+
+    // Hooks
+
+    @Override
+    protected void onWaveStarted(int wave, int size) {
+        initialMobCount = size;
+
+        if (isFinalWave(wave)) {
+            // Final wave - extremely difficult or impossible
+            // Forces player to use antidote
+            updateBossBar("The Curse - Final Wave (Use Antidote!)", BarColor.PURPLE);
+            return;
+        }
 
-        // Schedule mob spawning
-        spawnMobs(mobCount);
+        // Reset round timer
+        this.roundStartTime = System.currentTimeMillis();
+        updateBossBar();
 
         // Reset health bar to full and update visibility
         if (bossBar != null) {
@@ -118,49 +166,35 @@ public class Plague implements CurseActivity {
         startRoundTimer();
     }
 
-    private void startFinalWave() {
-        // Final wave - extremely difficult or impossible
-        // Forces player to use antidote
-        clearActiveMobs();
-
-        updateBossBar("The Curse - Final Wave (Use Antidote!)", BarColor.PURPLE);
-
-        // Spawn overwhelming number of strong mobs
-        spawnMobs(50); // Overwhelming number
-    }
-
-    private int calculateMobCount() {
-        int baseCount = 3 + currentRound;
-
-        if (plugin.getConfigManager().isScaleWithXP()) {
-            int playerLevel = player.getLevel();
-            baseCount += playerLevel / 5; // Add mobs based on player level
+    @Override
+    protected void onWaveCleared(int wave) {
+        // Cancel timeout task
+        if (timeoutTask != null) {
+            timeoutTask.cancel();
         }
 
-        return Math.min(baseCount, 20); // Cap at 20 mobs per wave
-    }
+        // First round completion gives antidote
+        if (wave == 1) {
+            hasAntidote = true;
+            // Update HUD to show antidote availability
+            plugin.getHUDManager().updateHUDForAllNearbyPlayers(this);
+        }
 
-    private void spawnMobs(int count) {
-        // Implementation for spawning mobs around the player
-        // This will be implemented in the PlagueManager
-        plugin.getPlagueManager().spawnMobsForPlague(this, count);
+        // Spawn reward chest
+        plugin.getPlagueManager().spawnRewardChest(this);
     }
 
-    private void startRoundTimer() {
-        int timeLimit = plugin.getConfigManager().getTimeLimitPerRound();
-        if (timeLimit > 0) {
-            timeoutTask = plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-                if (isActive) {
-                    failRound("Time limit exceeded!");
-                }
-            }, timeLimit * 20L); // Convert seconds to ticks
+    @Override
+    protected void onWaveResumed(int wave) {
+        initialMobCount = Math.max(initialMobCount, getRemainingMobCount());
+        updateHealthProgress();
+        if (!isFinalWave(wave)) {
+            startRoundTimer();
         }
     }
 
-    public void onMobKilled(Entity mob) {
-        activeMobs.remove(mob);
-        totalKills++;
-
+    @Override
+    protected void onMobsChanged() {
         // Update health progress as mobs are killed
         updateHealthProgress();
 
@@ -168,29 +202,35 @@ public class Plague implements CurseActivity {
         plugin.getHUDManager().updateHUDForAllNearbyPlayers(this);
 
         // Check if round is complete
-        if (activeMobs.isEmpty() && isActive) {
-            completeRound();
-        }
+        super.onMobsChanged();
     }
 
-    private void completeRound() {
-        // Cancel timeout task
-        if (timeoutTask != null) {
-            timeoutTask.cancel();
-        }
+    @Override
+    protected void onEnded(boolean successful) {
+        stopDisplay();
 
-        // First round completion gives antidote
-        if (currentRound == 1) {
-            hasAntidote = true;
-            // Update HUD to show antidote availability
-            plugin.getHUDManager().updateHUDForAllNearbyPlayers(this);
-        }
+        // Remove from active plagues
+        plugin.getPlagueManager().removePlague(getPlayerId());
+    }
 
-        // Spawn reward chest
-        plugin.getPlagueManager().spawnRewardChest(this);
+    @Override
+    protected void onSuspended() {
+        stopDisplay();
+    }
 
-        // Schedule next round
-        plugin.getServer().getScheduler().runTaskLater(plugin, this::nextRound, 100L); // 5 second delay
+    @Override
+    protected void submitStats() {
+        plugin.getLeaderboardManager().updatePlayerStats(getPlayerId(), this);
+    }
+
+    private void startRoundTimer() {
+        int timeLimit = plugin.getConfigManager().getTimeLimitPerRound();
+        if (timeLimit > 0) {
+            // Measured from roundStartTime so a resumed round keeps only the time it had left
+            long remainingMillis = timeLimit * 1000L - (System.currentTimeMillis() - roundStartTime);
+            timeoutTask = runTaskLater(() -> failRound("Time limit exceeded!"),
+                Math.max(1L, remainingMillis / 50L)); // Convert milliseconds to ticks
+        }
     }
 
     private void failRound(String reason) {
@@ -202,51 +242,53 @@ public class Plague implements CurseActivity {
     }
 
     public void endPlague(boolean successful) {
-        isActive = false;
-        wasSuccessful = successful;
+        end(successful);
+    }
 
-        // Cancel all tasks
-        if (roundTask != null) {
-            roundTask.cancel();
-        }
-        if (timeoutTask != null) {
-            timeoutTask.cancel();
-        }
+    /**
+     * Continues a plague rebuilt from a snapshot: re-attaches whichever of its mobs
+     * survived the restart, then carries on from the state the round was in.
+     */
+    public void resume(SessionSnapshot snapshot) {
+        reattachMobs(snapshot.mobs());
+        resumeWave(Boolean.parseBoolean(snapshot.extra("betweenRounds")));
+    }
+
+    /**
+     * Captures the state needed to resume this plague after a restart.
+     */
+    public SessionSnapshot snapshot() {
+        List<UUID> mobIds = getMobTracker().ids();
+
+        Map<String, String> extras = new LinkedHashMap<>();
+        extras.put("betweenRounds", Boolean.toString(isBetweenWaves()));
+        extras.put("initialMobs", Integer.toString(initialMobCount));
+        extras.put("hordeReserve", Integer.toString(getHordeReserve()));
+
+        long now = System.currentTimeMillis();
+        return new SessionSnapshot(ZombieRoyaleMechanic.MECHANIC_ID, getSessionId(), getPlayerId(), now, getStartTime(),
+            getCurrentRound(), getTotalKills(), hasAntidote, now - roundStartTime,
+            startLocation.getWorld().getName(), startLocation.getX(), startLocation.getY(), startLocation.getZ(),
+            mobIds, extras);
+    }
 
+    private void stopDisplay() {
         // Remove boss bar
         if (bossBar != null) {
             bossBar.removeAll();
         }
 
         // Stop HUD display for all nearby players
-        for (org.bukkit.entity.Player onlinePlayer : plugin.getServer().getOnlinePlayers()) {
+        for (Player onlinePlayer : plugin.getServer().getOnlinePlayers()) {
             if (onlinePlayer.getWorld().equals(startLocation.getWorld()) &&
                 onlinePlayer.getLocation().distance(startLocation) <= plugin.getConfigManager().getCombatRadius()) {
                 plugin.getHUDManager().stopHUD(onlinePlayer);
             }
         }
-
-        // Clear mobs
-        clearActiveMobs();
-
-        // Update statistics
-        plugin.getLeaderboardManager().updatePlayerStats(playerId, this);
-
-        // Remove from active plagues
-        plugin.getPlagueManager().removePlague(playerId);
-    }
-
-    private void clearActiveMobs() {
-        for (Entity mob : activeMobs) {
-            if (mob != null && !mob.isDead()) {
-                mob.remove();
-            }
-        }
-        activeMobs.clear();
     }
 
     private void updateBossBar() {
-        updateBossBar("The Curse - Round " + currentRound, BarColor.RED);
+        updateBossBar("The Curse - Round " + getCurrentRound(), BarColor.RED);
     }
 
     private void updateBossBar(String title, BarColor color) {
@@ -274,12 +316,9 @@ public class Plague implements CurseActivity {
     }
 
     public void updateHealthProgress() {
-        if (bossBar == null || !isActive) return;
-
-        // Remove any dead mobs from the list first
-        activeMobs.removeIf(mob -> mob == null || mob.isDead());
+        if (bossBar == null || !isActive()) return;
 
-        int aliveMobs = activeMobs.size();
+        int aliveMobs = getRemainingMobCount();
 
         // Calculate progress (1 = all alive, 0 = all dead)
         double progress = initialMobCount == 0 ? 0.0 : ((double) aliveMobs / initialMobCount);
@@ -290,31 +329,18 @@ public class Plague implements CurseActivity {
     }
 
     // Getters and setters
-    public UUID getPlayerId() { return playerId; }
-    public Player getPlayer() { return player; }
     public Location getStartLocation() { return startLocation; }
-    public int getCurrentRound() { return currentRound; }
-    public int getTotalKills() { return totalKills; }
-    public long getStartTime() { return startTime; }
     public long getRoundStartTime() { return roundStartTime; }
-    public boolean isActive() { return isActive; }
     public boolean hasAntidote() { return hasAntidote; }
-    public List<Entity> getActiveMobs() { return activeMobs; }
+    @Override
+    public Location getArenaCenter() { return startLocation; }
     public BossBar getBossBar() { return bossBar; }
     public int getInitialMobCount() { return initialMobCount; }
 
-    public void addMob(Entity mob) {
-        activeMobs.add(mob);
-    }
-
     public void setHasAntidote(boolean hasAntidote) {
         this.hasAntidote = hasAntidote;
     }
 
-    public void setInitialMobCount(int count) {
-        this.initialMobCount = count;
-    }
-
     public boolean isOutsideArea() {
         return isOutsideArea;
     }
@@ -338,9 +364,4 @@ public class Plague implements CurseActivity {
     public void setLastWarningTime(long lastWarningTime) {
         this.lastWarningTime = lastWarningTime;
     }
-
-    @Override
-    public boolean isSuccessful() {
-        return wasSuccessful;
-    }
 }
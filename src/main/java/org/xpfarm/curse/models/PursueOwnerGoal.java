@@ -0,0 +1,116 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import com.destroystokyo.paper.entity.ai.Goal;
+import com.destroystokyo.paper.entity.ai.GoalKey;
+import com.destroystokyo.paper.entity.ai.GoalType;
+import org.bukkit.GameMode;
+import org.bukkit.entity.Mob;
+import org.bukkit.entity.Player;
+import org.xpfarm.curse.utils.EntityResolver;
+
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * The one targeting goal a curse mob keeps: it always hunts the cursed player.
+ *
+ * <p>Every {@code repathTicks} ticks it re-asserts the player as the mob's target and, if
+ * the mob has no path (e.g. the attack goal gave up because the player was out of follow
+ * range), paths it towards them. Between those checks it does nothing, so it costs far
+ * less than the vanilla target selectors it replaces.
+ */
+public final class PursueOwnerGoal implements Goal<Mob> {
+
+    // Close enough that the attack goal handles it
+    private static final double MELEE_RANGE_SQUARED = 4.0;
+
+    private final GoalKey<Mob> key;
+    private final Mob mob;
+    private final UUID ownerId;
+    private final int repathTicks;
+    private int cooldown;
+
+    /**
+     * @param key The goal's key, shared by every curse mob
+     * @param mob The mob the goal drives
+     * @param ownerId The cursed player
+     * @param repathTicks Ticks between target and path checks
+     */
+    public PursueOwnerGoal(GoalKey<Mob> key, Mob mob, UUID ownerId, int repathTicks) {
+        this.key = key;
+        this.mob = mob;
+        this.ownerId = ownerId;
+        this.repathTicks = Math.max(1, repathTicks);
+    }
+
+    @Override
+    public boolean shouldActivate() {
+        return owner() != null;
+    }
+
+    @Override
+    public boolean shouldStayActive() {
+        return owner() != null;
+    }
+
+    @Override
+    public void start() {
+        cooldown = 0;
+    }
+
+    @Override
+    public void stop() {
+        if (mob.getTarget() != null && mob.getTarget().getUniqueId().equals(ownerId)) {
+            mob.setTarget(null);
+        }
+    }
+
+    @Override
+    public void tick() {
+        if (--cooldown > 0) return;
+        cooldown = repathTicks;
+
+        Player owner = owner();
+        if (owner == null) return;
+
+        if (mob.getTarget() != owner) {
+            mob.setTarget(owner);
+        }
+        if (!mob.getPathfinder().hasPath()
+            && mob.getLocation().distanceSquared(owner.getLocation()) > MELEE_RANGE_SQUARED) {
+            mob.getPathfinder().moveTo(owner);
+        }
+    }
+
+    @Override
+    public GoalKey<Mob> getKey() {
+        return key;
+    }
+
+    @Override
+    public EnumSet<GoalType> getTypes() {
+        return EnumSet.of(GoalType.TARGET);
+    }
+
+    /**
+     * The cursed player, if they can be hunted: online, alive, in the mob's world and not
+     * in creative or spectator
+     */
+    private Player owner() {
+        Player owner = EntityResolver.player(ownerId);
+        if (owner == null || owner.isDead() || !owner.getWorld().equals(mob.getWorld())) {
+            return null;
+        }
+        GameMode mode = owner.getGameMode();
+        return mode == GameMode.SURVIVAL || mode == GameMode.ADVENTURE ? owner : null;
+    }
+}
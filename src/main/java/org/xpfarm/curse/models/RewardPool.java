@@ -0,0 +1,88 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The XP and drops a session's kills have earned but not yet paid out, under
+ * {@code mobs.dropPolicy: POOL}.
+ *
+ * <p>Drops are merged into as few stacks as they fit, so a wave's worth of rotten flesh
+ * is a handful of items rather than one per kill. Main thread only.
+ */
+public final class RewardPool {
+
+    private int experience;
+    private final List<ItemStack> items;
+
+    public RewardPool() {
+        this.items = new ArrayList<>();
+    }
+
+    /**
+     * Adds one kill's loot
+     * @param experience XP the kill is worth
+     * @param drops Items it dropped; the pool takes ownership of them
+     */
+    public void add(int experience, Collection<ItemStack> drops) {
+        this.experience += Math.max(0, experience);
+        for (ItemStack drop : drops) {
+            merge(drop);
+        }
+    }
+
+    public boolean isEmpty() {
+        return experience == 0 && items.isEmpty();
+    }
+
+    /**
+     * Empties the pool's XP
+     * @return The XP it held
+     */
+    public int takeExperience() {
+        int taken = experience;
+        experience = 0;
+        return taken;
+    }
+
+    /**
+     * Empties the pool's items
+     * @return The items it held
+     */
+    public List<ItemStack> takeItems() {
+        List<ItemStack> taken = new ArrayList<>(items);
+        items.clear();
+        return taken;
+    }
+
+    private void merge(ItemStack drop) {
+        if (drop == null || drop.getType().isAir()) return;
+
+        int remaining = drop.getAmount();
+        for (ItemStack stack : items) {
+            if (remaining == 0) return;
+            int space = stack.getMaxStackSize() - stack.getAmount();
+            if (space > 0 && stack.isSimilar(drop)) {
+                int moved = Math.min(space, remaining);
+                stack.setAmount(stack.getAmount() + moved);
+                remaining -= moved;
+            }
+        }
+        if (remaining > 0) {
+            drop.setAmount(remaining);
+            items.add(drop);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import org.bukkit.Server;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One player's open reward vault: a virtual inventory that exists only while they are
+ * looking at it. Rewards that do not fit, or arrive while it is open, wait in an overflow
+ * list and are shown the next time it is opened.
+ */
+public final class RewardVault implements InventoryHolder {
+
+    /** Largest vault inventory, six rows */
+    public static final int MAX_SIZE = 54;
+
+    private static final Component TITLE = Component.text("Curse Rewards", NamedTextColor.DARK_PURPLE);
+
+    private final UUID ownerId;
+    private final Inventory inventory;
+    private final List<ItemStack> overflow;
+
+    /**
+     * @param server Server to create the inventory on
+     * @param ownerId The player whose rewards these are
+     * @param rewards The unclaimed rewards
+     */
+    public RewardVault(Server server, UUID ownerId, List<ItemStack> rewards) {
+        this.ownerId = ownerId;
+
+        int rows = Math.max(1, Math.min((rewards.size() + 8) / 9, MAX_SIZE / 9));
+        this.inventory = server.createInventory(this, rows * 9, TITLE);
+
+        int shown = Math.min(rewards.size(), inventory.getSize());
+        for (int slot = 0; slot < shown; slot++) {
+            inventory.setItem(slot, rewards.get(slot));
+        }
+        this.overflow = new ArrayList<>(rewards.subList(shown, rewards.size()));
+    }
+
+    /**
+     * Queues rewards that arrive while the vault is open
+     * @param rewards The new rewards
+     */
+    public void addOverflow(List<ItemStack> rewards) {
+        overflow.addAll(rewards);
+    }
+
+    /**
+     * Get everything still unclaimed: what is left in the inventory, then the overflow
+     * @return The remaining rewards
+     */
+    public List<ItemStack> remaining() {
+        List<ItemStack> remaining = new ArrayList<>();
+        for (ItemStack item : inventory.getContents()) {
+            if (item != null && !item.isEmpty()) {
+                remaining.add(item);
+            }
+        }
+        remaining.addAll(overflow);
+        return remaining;
+    }
+
+    public UUID getOwnerId() { return ownerId; }
+
+    @Override
+    public Inventory getInventory() {
+        return inventory;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A point-in-time copy of one curse session, small enough to journal every few seconds
+ * and complete enough to resume the session after a restart or crash.
+ *
+ * <p>Holds only plain values -- world name and coordinates rather than a
+ * {@code Location}, mob UUIDs rather than entities -- so it can be built on the main
+ * thread and written from an async one. Mechanic-specific state that does not fit the
+ * shared fields goes in {@link #extras}.
+ *
+ * @param mechanicId   the mechanic that owns the session, e.g. {@code ZP25}
+ * @param sessionId    the session's own ID, distinct from the player's
+ * @param playerId     the cursed player
+ * @param savedAt      epoch milliseconds when the snapshot was taken
+ * @param startTime    epoch milliseconds when the session started
+ * @param round        the current round or wave
+ * @param kills        kills credited so far
+ * @param antidote     whether the antidote has been earned
+ * @param roundElapsed milliseconds already spent in the current round
+ * @param world        the start location's world name
+ * @param x            the start location's x
+ * @param y            the start location's y
+ * @param z            the start location's z
+ * @param mobs         UUIDs of the session's living mobs
+ * @param extras       mechanic-specific key/value state
+ */
+public record SessionSnapshot(
+        String mechanicId,
+        UUID sessionId,
+        UUID playerId,
+        long savedAt,
+        long startTime,
+        int round,
+        int kills,
+        boolean antidote,
+        long roundElapsed,
+        String world,
+        double x,
+        double y,
+        double z,
+        List<UUID> mobs,
+        Map<String, String> extras) {
+
+    private static final String VERSION = "v1";
+    private static final String FIELD = "|";
+    private static final String FIELD_PATTERN = "\\|";
+
+    public SessionSnapshot {
+        mobs = List.copyOf(mobs);
+        extras = Collections.unmodifiableMap(new LinkedHashMap<>(extras));
+    }
+
+    /** A mechanic-specific value, or {@code null} if the session did not record one. */
+    public String extra(String key) {
+        return extras.get(key);
+    }
+
+    /** Encodes this snapshot as a single journal line. */
+    public String encode() {
+        StringBuilder mobList = new StringBuilder();
+        for (UUID mob : mobs) {
+            if (mobList.length() > 0) {
+                mobList.append(',');
+            }
+            mobList.append(mob);
+        }
+
+        StringBuilder extraList = new StringBuilder();
+        for (Map.Entry<String, String> entry : extras.entrySet()) {
+            if (extraList.length() > 0) {
+                extraList.append(';');
+            }
+            extraList.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+
+        return String.join(FIELD,
+            VERSION, mechanicId, sessionId.toString(), playerId.toString(),
+            Long.toString(savedAt), Long.toString(startTime),
+            Integer.toString(round), Integer.toString(kills), Boolean.toString(antidote),
+            Long.toString(roundElapsed), world,
+            Double.toString(x), Double.toString(y), Double.toString(z),
+            mobList.toString(), extraList.toString());
+    }
+
+    /**
+     * Decodes a line written by {@link #encode}.
+     *
+     * @return the snapshot, or {@code null} for a malformed or unknown-version line
+     */
+    public static SessionSnapshot decode(String line) {
+        String[] parts = line.split(FIELD_PATTERN, -1);
+        if (parts.length != 16 || !VERSION.equals(parts[0])) {
+            return null;
+        }
+        try {
+            List<UUID> mobs = new ArrayList<>();
+            if (!parts[14].isEmpty()) {
+                for (String mob : parts[14].split(",")) {
+                    mobs.add(UUID.fromString(mob));
+                }
+            }
+
+            Map<String, String> extras = new LinkedHashMap<>();
+            if (!parts[15].isEmpty()) {
+                for (String pair : parts[15].split(";")) {
+                    int split = pair.indexOf('=');
+                    if (split > 0) {
+                        extras.put(pair.substring(0, split), pair.substring(split + 1));
+                    }
+                }
+            }
+
+            return new SessionSnapshot(
+                parts[1], UUID.fromString(parts[2]), UUID.fromString(parts[3]),
+                Long.parseLong(parts[4]), Long.parseLong(parts[5]),
+                Integer.parseInt(parts[6]), Integer.parseInt(parts[7]), Boolean.parseBoolean(parts[8]),
+                Long.parseLong(parts[9]), parts[10],
+                Double.parseDouble(parts[11]), Double.parseDouble(parts[12]), Double.parseDouble(parts[13]),
+                mobs, extras);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
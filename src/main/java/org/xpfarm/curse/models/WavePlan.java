@@ -0,0 +1,60 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import java.util.List;
+
+/**
+ * A mechanic's waves, compiled from the {@code waves} section of the config. Immutable;
+ * a reload builds a new plan and running sessions pick it up on their next wave.
+ */
+public final class WavePlan {
+
+    private final List<WaveSpec> waves;
+    private final WaveSpec finalWave;
+
+    /**
+     * @param waves The listed waves, in order
+     * @param finalWave The wave repeated once the listed ones run out, or null to repeat
+     *                  the last listed wave
+     */
+    public WavePlan(List<WaveSpec> waves, WaveSpec finalWave) {
+        if (waves.isEmpty()) {
+            throw new IllegalArgumentException("A wave plan needs at least one wave");
+        }
+        this.waves = List.copyOf(waves);
+        this.finalWave = finalWave;
+    }
+
+    /**
+     * Get the number of listed waves
+     * @return Wave count
+     */
+    public int size() {
+        return waves.size();
+    }
+
+    /**
+     * Get a wave. Waves past the last listed reuse the last one.
+     * @param wave The wave, starting at 1
+     * @return The wave
+     */
+    public WaveSpec wave(int wave) {
+        return waves.get(Math.max(0, Math.min(wave, waves.size()) - 1));
+    }
+
+    /**
+     * Get the wave repeated once the listed ones run out
+     * @return The final wave
+     */
+    public WaveSpec finalWave() {
+        return finalWave != null ? finalWave : waves.get(waves.size() - 1);
+    }
+}
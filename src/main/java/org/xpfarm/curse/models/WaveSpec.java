@@ -0,0 +1,70 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import java.util.List;
+
+/**
+ * One wave of a compiled wave plan. Immutable.
+ *
+ * <p>Each mob kind's share is expanded into a slot table when the plan is compiled, so
+ * picking the mob for the n-th spawn is one array index.
+ */
+public final class WaveSpec {
+
+    private final int count;
+    private final int perLevel;
+    private final int maxCount;
+    private final long delay;
+    private final long interval;
+    private final MobSpec[] slots;
+
+    /**
+     * @param count Mobs in the wave
+     * @param perLevel One more mob per this many player levels, or 0 for none
+     * @param maxCount Cap on the count after level scaling
+     * @param delay Ticks between the previous wave being cleared and this one starting
+     * @param interval Ticks after this wave starts that the next one starts anyway, or 0
+     * @param mobs Mob kinds, each repeated by its share
+     */
+    public WaveSpec(int count, int perLevel, int maxCount, long delay, long interval, List<MobSpec> mobs) {
+        if (mobs.isEmpty()) {
+            throw new IllegalArgumentException("A wave needs at least one mob");
+        }
+        this.count = count;
+        this.perLevel = perLevel;
+        this.maxCount = maxCount;
+        this.delay = delay;
+        this.interval = interval;
+        this.slots = mobs.toArray(new MobSpec[0]);
+    }
+
+    /**
+     * Get how many mobs this wave spawns
+     * @param playerLevel The cursed player's level, or 0 to not scale
+     * @return Mob count
+     */
+    public int count(int playerLevel) {
+        int scaled = perLevel > 0 ? count + playerLevel / perLevel : count;
+        return Math.min(scaled, maxCount);
+    }
+
+    /**
+     * Get the mob for a spawn slot
+     * @param index The spawn's index within the wave
+     * @return The mob to spawn
+     */
+    public MobSpec mob(int index) {
+        return slots[index % slots.length];
+    }
+
+    public long getDelay() { return delay; }
+    public long getInterval() { return interval; }
+}
@@ -0,0 +1,108 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Weighted sampling in constant time, by Vose's alias method.
+ *
+ * <p>Built once in O(n); each {@link #sample(Random)} then costs one uniform index and one
+ * uniform double, whatever the number of outcomes or the spread of their weights.
+ * Immutable and safe to share; the caller owns the {@link Random}.
+ *
+ * @param <T> the outcome type
+ */
+public final class AliasTable<T> {
+
+    private final Object[] outcomes;
+    private final double[] probability;
+    private final int[] alias;
+
+    /**
+     * Builds a table over outcomes and their relative weights.
+     *
+     * @param outcomes the outcomes
+     * @param weights  each outcome's weight; non-negative, at least one positive
+     * @throws IllegalArgumentException if the lists differ in size, are empty, or no
+     *                                  weight is positive
+     */
+    public AliasTable(List<? extends T> outcomes, List<Double> weights) {
+        int n = outcomes.size();
+        if (n == 0 || weights.size() != n) {
+            throw new IllegalArgumentException("Need one weight per outcome and at least one outcome");
+        }
+
+        double total = 0.0;
+        for (double weight : weights) {
+            if (weight < 0.0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Invalid weight: " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0.0) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+
+        this.outcomes = outcomes.toArray();
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        // Scale so the average column holds exactly 1
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights.get(i) * n / total;
+            (scaled[i] < 1.0 ? small : large).push(i);
+        }
+
+        // Top up each short column from a tall one
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            (scaled[more] < 1.0 ? small : large).push(more);
+        }
+
+        // Whatever is left is full up to rounding error
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1.0;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1.0;
+        }
+    }
+
+    /**
+     * Draws one outcome.
+     *
+     * @param random the source of randomness
+     * @return an outcome, with probability proportional to its weight
+     */
+    @SuppressWarnings("unchecked")
+    public T sample(Random random) {
+        int column = random.nextInt(outcomes.length);
+        int index = random.nextDouble() < probability[column] ? column : alias[column];
+        return (T) outcomes[index];
+    }
+
+    /**
+     * @return the number of outcomes, including any with zero weight
+     */
+    public int size() {
+        return outcomes.length;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+/**
+ * Packs a block position into one {@code long}, for registries that key or persist
+ * positions without holding {@code Location}s.
+ *
+ * <p>X and Z take 26 signed bits each and Y 12, the layout vanilla uses, which covers
+ * every position a world border and build height allow. Chunk positions are packed
+ * separately by {@link #chunk}; the two kinds of key must not be mixed in one map.
+ */
+public final class BlockKeys {
+
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+    private static final long Y_MASK = (1L << Y_BITS) - 1;
+    private static final int X_SHIFT = XZ_BITS + Y_BITS;
+    private static final int Z_SHIFT = Y_BITS;
+
+    private BlockKeys() {
+    }
+
+    /**
+     * Packs a block position.
+     *
+     * @return the packed key
+     */
+    public static long pack(int x, int y, int z) {
+        return ((x & XZ_MASK) << X_SHIFT) | ((z & XZ_MASK) << Z_SHIFT) | (y & Y_MASK);
+    }
+
+    /**
+     * Packs a chunk position, X in the high half and Z in the low.
+     *
+     * @return the packed key
+     */
+    public static long chunk(int chunkX, int chunkZ) {
+        return (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
+    }
+
+    /** @return the block X of a packed key */
+    public static int x(long key) {
+        return (int) (key >> X_SHIFT);
+    }
+
+    /** @return the block Y of a packed key */
+    public static int y(long key) {
+        return (int) (key << (64 - Y_BITS) >> (64 - Y_BITS));
+    }
+
+    /** @return the block Z of a packed key */
+    public static int z(long key) {
+        return (int) (key << (64 - X_SHIFT) >> (64 - XZ_BITS));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+
+import java.util.Map;
+
+/**
+ * Finds the floor of a crater from snapshots of its chunks, off the main thread.
+ *
+ * <p>Each column's surface comes straight from the snapshot's heightmap, so the search
+ * reads a handful of blocks per column instead of walking down through the world. Safe
+ * to call from any thread: a {@link ChunkSnapshot} is an immutable copy.
+ */
+public final class CraterSurvey {
+
+    // Air above the floor for a spawner and the mobs it releases
+    private static final int HEADROOM = 2;
+
+    private CraterSurvey() {
+    }
+
+    /**
+     * Finds the lowest safe floor within a radius of a point: a solid block with clear
+     * air above it. Columns in chunks missing from the map are skipped. Ties go to the
+     * column nearest the point.
+     *
+     * @param chunks every chunk the radius overlaps, taken with their heightmaps, by
+     *               {@link BlockKeys#chunk}; see {@link #chunksAround}
+     * @param x      block X of the point
+     * @param z      block Z of the point
+     * @param radius how far from the point to look, in blocks
+     * @param minY   the world's minimum height
+     * @return the floor block as {x, y, z}, or null if no column has a safe floor
+     */
+    public static int[] findFloor(Map<Long, ChunkSnapshot> chunks, int x, int z, int radius, int minY) {
+        int[] best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                int distance = dx * dx + dz * dz;
+                if (distance > radius * radius) continue;
+
+                int columnX = x + dx;
+                int columnZ = z + dz;
+                ChunkSnapshot snapshot = chunks.get(BlockKeys.chunk(columnX >> 4, columnZ >> 4));
+                if (snapshot == null) continue;
+
+                int localX = columnX & 15;
+                int localZ = columnZ & 15;
+                int y = snapshot.getHighestBlockYAt(localX, localZ);
+                if (y < minY || !isSafeFloor(snapshot, localX, y, localZ)) continue;
+
+                if (best == null || y < best[1] || y == best[1] && distance < bestDistance) {
+                    best = new int[] {x + dx, y, z + dz};
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * The chunks a search around a point overlaps, as {x, z} chunk coordinates: at most
+     * four while the radius is under a chunk
+     */
+    public static int[][] chunksAround(int x, int z, int radius) {
+        int minChunkX = (x - radius) >> 4;
+        int maxChunkX = (x + radius) >> 4;
+        int minChunkZ = (z - radius) >> 4;
+        int maxChunkZ = (z + radius) >> 4;
+
+        int[][] chunks = new int[(maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1)][];
+        int i = 0;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                chunks[i++] = new int[] {chunkX, chunkZ};
+            }
+        }
+        return chunks;
+    }
+
+    private static boolean isSafeFloor(ChunkSnapshot snapshot, int x, int y, int z) {
+        Material floor = snapshot.getBlockType(x, y, z);
+        if (!floor.isSolid() || floor == Material.BEDROCK) {
+            return false;
+        }
+        for (int up = 1; up <= HEADROOM; up++) {
+            if (!snapshot.getBlockType(x, y + up, z).isAir()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Turns the UUIDs curse sessions hold back into live handles.
+ *
+ * <p>Sessions store only UUIDs so that an ended session, a disconnected player or an
+ * unloaded mob never keeps server objects reachable. {@link Bukkit#getEntity(UUID)}
+ * searches every world, so entity lookups are shared through a {@link TickCache}: a
+ * session's monitor, HUD and death checks in the same tick resolve each mob once. The
+ * cache is cleared as every tick ends, so nothing is held beyond the tick even on an idle
+ * server. Player lookups are a single map access already and are not cached. Main
+ * thread only.
+ */
+public final class EntityResolver {
+
+    private static final TickCache<UUID, Entity> ENTITIES = new TickCache<>();
+
+    private EntityResolver() {
+    }
+
+    /**
+     * Resolves an online player.
+     *
+     * @param id the player's UUID
+     * @return the player, or {@code null} if they are offline
+     */
+    public static Player player(UUID id) {
+        return Bukkit.getPlayer(id);
+    }
+
+    /**
+     * Resolves a loaded entity.
+     *
+     * @param id the entity's UUID
+     * @return the entity, or {@code null} if it is unloaded or gone
+     */
+    public static Entity entity(UUID id) {
+        return entity(id, Bukkit.getCurrentTick(), Bukkit::getEntity);
+    }
+
+    /** {@link #entity(UUID)} against a given tick and lookup, so it runs without a server. */
+    static Entity entity(UUID id, long currentTick, Function<? super UUID, ? extends Entity> lookup) {
+        return ENTITIES.get(id, currentTick, lookup);
+    }
+
+    /** Forgets a cached lookup after the entity has loaded, unloaded or been removed. */
+    public static void invalidate(UUID id) {
+        ENTITIES.invalidate(id);
+    }
+
+    /** Drops every cached handle. Called as each tick ends and when the plugin disables. */
+    public static void clear() {
+        ENTITIES.clear();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+/**
+ * Splits a starting wave into the mobs sent out now and the horde reserve held back.
+ *
+ * <p>Mobs still in play when the wave starts, e.g. the survivors and queued spawns of a
+ * wave whose interval ran out, count against {@code mobs.horde.maxAlive}, so waves
+ * stacking on top of each other never put more than that many mobs in the world.
+ */
+public final class HordeSplit {
+
+    private HordeSplit() {
+    }
+
+    /**
+     * How many of a new wave's mobs are sent out at once. The rest go to the reserve.
+     *
+     * @param size The wave's full count
+     * @param maxAlive The most mobs alive at once, or 0 for no limit
+     * @param inPlay Mobs already alive or queued that the new wave joins
+     * @return the mobs to send out now, from 0 to {@code size}
+     */
+    public static int live(int size, int maxAlive, int inPlay) {
+        if (size <= 0) {
+            return 0;
+        }
+        if (maxAlive <= 0) {
+            return size;
+        }
+        return Math.max(0, Math.min(size, maxAlive - Math.max(0, inPlay)));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A fixed number of values stored as indices into a palette of the distinct values seen,
+ * the way the game stores chunk sections.
+ *
+ * <p>Each entry takes only as many bits as the palette needs, packed into longs without
+ * spanning two of them. An arena of a few thousand blocks in a dozen block states fits in
+ * a few hundred longs. The width grows as new values are added and never shrinks.
+ *
+ * <p>Not thread-safe, but a volume that is no longer written can be read from any thread.
+ *
+ * @param <T> the stored value; compared with {@code equals}
+ */
+public final class PalettedVolume<T> {
+
+    private static final int MAX_BITS = 32;
+
+    private final int size;
+    private final List<T> palette;
+    private final Map<T, Integer> ids;
+    private int bits;
+    private long[] data;
+
+    /**
+     * @param size The number of entries
+     * @param fill The value every entry starts as
+     */
+    public PalettedVolume(int size, T fill) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Volume size cannot be negative: " + size);
+        }
+        this.size = size;
+        this.palette = new ArrayList<>();
+        this.ids = new HashMap<>();
+        this.bits = 1;
+        this.data = new long[longsFor(size, bits)];
+        palette.add(Objects.requireNonNull(fill, "fill"));
+        ids.put(fill, 0);
+    }
+
+    /**
+     * Rebuilds a volume from the parts of another, e.g. read back from disk
+     * @param size The number of entries
+     * @param palette Its {@link #palette()}
+     * @param bits Its {@link #bits()}
+     * @param data Its {@link #data()}
+     * @throws IllegalArgumentException if the parts do not describe a valid volume
+     */
+    public static <T> PalettedVolume<T> of(int size, List<T> palette, int bits, long[] data) {
+        if (palette.isEmpty() || bits < 1 || bits > MAX_BITS || palette.size() > 1L << bits) {
+            throw new IllegalArgumentException("Palette of " + palette.size() + " does not fit " + bits + " bits");
+        }
+
+        PalettedVolume<T> volume = new PalettedVolume<>(size, palette.get(0));
+        if (data.length != longsFor(size, bits)) {
+            throw new IllegalArgumentException("Expected " + longsFor(size, bits) + " longs, got " + data.length);
+        }
+        for (int i = 1; i < palette.size(); i++) {
+            T value = Objects.requireNonNull(palette.get(i), "palette entry");
+            if (volume.ids.putIfAbsent(value, i) != null) {
+                throw new IllegalArgumentException("Duplicate palette entry: " + value);
+            }
+            volume.palette.add(value);
+        }
+        volume.bits = bits;
+        volume.data = data.clone();
+
+        for (int i = 0; i < size; i++) {
+            if (volume.read(i) >= palette.size()) {
+                throw new IllegalArgumentException("Entry " + i + " is outside the palette");
+            }
+        }
+        return volume;
+    }
+
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return palette.get(read(index));
+    }
+
+    public void set(int index, T value) {
+        Objects.checkIndex(index, size);
+        Integer id = ids.get(Objects.requireNonNull(value, "value"));
+        if (id == null) {
+            id = palette.size();
+            if (id >= 1L << bits) {
+                resize(bits + 1);
+            }
+            palette.add(value);
+            ids.put(value, id);
+        }
+        write(index, id);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Bits used per entry
+     */
+    public int bits() {
+        return bits;
+    }
+
+    /**
+     * The distinct values, in the order entries refer to them
+     */
+    public List<T> palette() {
+        return Collections.unmodifiableList(palette);
+    }
+
+    /**
+     * A copy of the packed entries
+     */
+    public long[] data() {
+        return data.clone();
+    }
+
+    private int read(int index) {
+        int perLong = 64 / bits;
+        int shift = index % perLong * bits;
+        return (int) (data[index / perLong] >>> shift & mask());
+    }
+
+    private void write(int index, int id) {
+        int perLong = 64 / bits;
+        int shift = index % perLong * bits;
+        int word = index / perLong;
+        data[word] = data[word] & ~(mask() << shift) | (long) id << shift;
+    }
+
+    private void resize(int newBits) {
+        int[] entries = new int[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = read(i);
+        }
+        bits = newBits;
+        data = new long[longsFor(size, bits)];
+        for (int i = 0; i < size; i++) {
+            write(i, entries[i]);
+        }
+    }
+
+    private long mask() {
+        return (1L << bits) - 1;
+    }
+
+    private static int longsFor(int size, int bits) {
+        int perLong = 64 / bits;
+        return (size + perLong - 1) / perLong;
+    }
+}
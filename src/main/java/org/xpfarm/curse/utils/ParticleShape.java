@@ -0,0 +1,122 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+/**
+ * A precomputed set of particle offsets, relative to an effect's origin.
+ *
+ * <p>Shapes are built once, typically into constants, and replayed every frame: the
+ * offsets sit in one primitive array, so emitting a shape does no trigonometry, no random
+ * numbers and no allocation. Immutable and safe to share.
+ */
+public final class ParticleShape {
+
+    /** A single point at the origin */
+    public static final ParticleShape POINT = new ParticleShape(new double[] {0.0, 0.0, 0.0});
+
+    private static final double GOLDEN_ANGLE = Math.PI * (3.0 - Math.sqrt(5.0));
+
+    // x, y, z interleaved
+    private final double[] offsets;
+
+    private ParticleShape(double[] offsets) {
+        this.offsets = offsets;
+    }
+
+    /**
+     * A horizontal ring around the origin.
+     *
+     * @param radius the ring's radius
+     * @param points points spaced evenly around it
+     * @return the shape
+     */
+    public static ParticleShape ring(double radius, int points) {
+        return spiral(radius, 0.0, 1.0, points);
+    }
+
+    /**
+     * A helix rising from the origin.
+     *
+     * @param radius the helix's radius
+     * @param height the rise from the first point to the last
+     * @param turns  full turns over that height
+     * @param points points spaced evenly along it
+     * @return the shape
+     */
+    public static ParticleShape spiral(double radius, double height, double turns, int points) {
+        requirePoints(points);
+        double[] offsets = new double[points * 3];
+        for (int i = 0; i < points; i++) {
+            double angle = 2 * Math.PI * turns * i / points;
+            offsets[i * 3] = Math.cos(angle) * radius;
+            offsets[i * 3 + 1] = points > 1 ? height * i / (points - 1) : 0.0;
+            offsets[i * 3 + 2] = Math.sin(angle) * radius;
+        }
+        return new ParticleShape(offsets);
+    }
+
+    /**
+     * A sphere's surface around the origin, covered evenly by a Fibonacci lattice.
+     *
+     * @param radius the sphere's radius
+     * @param points points on its surface
+     * @return the shape
+     */
+    public static ParticleShape sphere(double radius, int points) {
+        requirePoints(points);
+        double[] offsets = new double[points * 3];
+        for (int i = 0; i < points; i++) {
+            double y = 1.0 - 2.0 * (i + 0.5) / points;
+            double ring = Math.sqrt(1.0 - y * y);
+            double angle = GOLDEN_ANGLE * i;
+            offsets[i * 3] = Math.cos(angle) * ring * radius;
+            offsets[i * 3 + 1] = y * radius;
+            offsets[i * 3 + 2] = Math.sin(angle) * ring * radius;
+        }
+        return new ParticleShape(offsets);
+    }
+
+    /**
+     * A vertical line rising from the origin.
+     *
+     * @param height the rise from the first point to the last
+     * @param points points spaced evenly along it
+     * @return the shape
+     */
+    public static ParticleShape column(double height, int points) {
+        return spiral(0.0, height, 0.0, points);
+    }
+
+    /** @return the number of points */
+    public int size() {
+        return offsets.length / 3;
+    }
+
+    /** @return the X offset of a point */
+    public double x(int point) {
+        return offsets[point * 3];
+    }
+
+    /** @return the Y offset of a point */
+    public double y(int point) {
+        return offsets[point * 3 + 1];
+    }
+
+    /** @return the Z offset of a point */
+    public double z(int point) {
+        return offsets[point * 3 + 2];
+    }
+
+    private static void requirePoints(int points) {
+        if (points < 1) {
+            throw new IllegalArgumentException("A shape needs at least one point");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A cache that forgets everything when the server tick changes.
+ *
+ * <p>Lets several callers in one tick share a lookup without any of them holding the
+ * result past it. The owner calls {@link #clear()} as each tick ends; as a safeguard, the
+ * first access in a new tick also drops every value cached in an earlier one. Not
+ * thread-safe; intended for the main thread.
+ *
+ * @param <K> the key type
+ * @param <V> the value type; a {@code null} result is cached like any other
+ */
+public final class TickCache<K, V> {
+
+    private final Map<K, V> values = new HashMap<>();
+    private long tick = Long.MIN_VALUE;
+
+    /**
+     * Gets the value for a key, loading it at most once per tick.
+     *
+     * @param key         the key to look up
+     * @param currentTick the current server tick
+     * @param loader      computes the value on a miss; may return {@code null}
+     * @return the cached or freshly loaded value
+     */
+    public V get(K key, long currentTick, Function<? super K, ? extends V> loader) {
+        if (currentTick != tick) {
+            values.clear();
+            tick = currentTick;
+        }
+        if (values.containsKey(key)) {
+            return values.get(key);
+        }
+        V value = loader.apply(key);
+        values.put(key, value);
+        return value;
+    }
+
+    /** Drops one key, e.g. when its value is known to have changed mid-tick. */
+    public void invalidate(K key) {
+        values.remove(key);
+    }
+
+    /** Drops every cached value. */
+    public void clear() {
+        values.clear();
+    }
+
+    /** The number of values cached for the current tick. */
+    public int size() {
+        return values.size();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises {@link CooldownStore}: expiry, per-mechanic separation, and the on-disk
+ * encoding that carries cooldowns across a restart.
+ */
+class CooldownStoreTest {
+
+    private static final UUID PLAYER = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Test
+    @DisplayName("cooldowns for different mechanics are independent")
+    void mechanicsAreIndependent() {
+        CooldownStore store = new CooldownStore();
+        store.set(PLAYER, "ZP25", 2_000);
+
+        assertEquals(2_000, store.getExpiry(PLAYER, "ZP25", 1_000));
+        assertEquals(0, store.getExpiry(PLAYER, "CS25P", 1_000));
+    }
+
+    @Test
+    @DisplayName("an expired entry is dropped when read")
+    void expiredEntryIsDroppedOnRead() {
+        CooldownStore store = new CooldownStore();
+        store.set(PLAYER, "ZP25", 2_000);
+
+        assertEquals(0, store.getExpiry(PLAYER, "ZP25", 2_000));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("purging removes only what has expired")
+    void purgeRemovesOnlyExpired() {
+        CooldownStore store = new CooldownStore();
+        store.set(PLAYER, "ZP25", 1_000);
+        store.set(PLAYER, "CS25P", 5_000);
+
+        assertEquals(1, store.purgeExpired(2_000));
+        assertEquals(1, store.size());
+        assertEquals(5_000, store.getExpiry(PLAYER, "CS25P", 2_000));
+    }
+
+    @Test
+    @DisplayName("encoding round-trips running cooldowns and skips expired ones")
+    void encodingRoundTrips() {
+        CooldownStore store = new CooldownStore();
+        store.set(PLAYER, "ZP25", 10_000);
+        store.set(PLAYER, "CS25P", 1_000);
+
+        List<String> lines = store.encode(5_000);
+        assertEquals(1, lines.size());
+
+        CooldownStore restored = CooldownStore.decode(lines, 5_000);
+        assertEquals(10_000, restored.getExpiry(PLAYER, "ZP25", 5_000));
+        assertEquals(0, restored.getExpiry(PLAYER, "CS25P", 5_000));
+    }
+
+    @Test
+    @DisplayName("a corrupt line does not prevent the rest of the file loading")
+    void corruptLinesAreSkipped() {
+        List<String> lines = List.of("garbage", PLAYER + " ZP25 not-a-number", PLAYER + " CS25P 9000");
+
+        CooldownStore restored = CooldownStore.decode(lines, 0);
+        assertEquals(1, restored.size());
+        assertEquals(9_000, restored.getExpiry(PLAYER, "CS25P", 0));
+    }
+
+    @Test
+    @DisplayName("only changes mark the store dirty")
+    void dirtyTracksChanges() {
+        CooldownStore store = new CooldownStore();
+        assertFalse(store.consumeDirty());
+
+        store.set(PLAYER, "ZP25", 1_000);
+        assertTrue(store.consumeDirty());
+        assertFalse(store.consumeDirty());
+
+        store.remove(PLAYER, "CS25P");
+        assertFalse(store.consumeDirty());
+    }
+}
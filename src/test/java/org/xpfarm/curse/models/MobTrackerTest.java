@@ -0,0 +1,91 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises {@link MobTracker}: unloaded mobs keep the round open, and reloading marks
+ * them loaded again.
+ */
+class MobTrackerTest {
+
+    private static final UUID FIRST = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID SECOND = UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+    @Test
+    @DisplayName("an unloaded mob still counts towards the round")
+    void unloadedMobStillCounts() {
+        MobTracker tracker = new MobTracker();
+        tracker.add(FIRST);
+        tracker.add(SECOND);
+
+        assertTrue(tracker.unload(FIRST));
+        assertEquals(2, tracker.size());
+        assertEquals(1, tracker.unloadedCount());
+        assertFalse(tracker.isLoaded(FIRST));
+        assertEquals(List.of(SECOND), tracker.loadedIds());
+    }
+
+    @Test
+    @DisplayName("reloading marks an unloaded mob loaded again")
+    void reloadMarksLoaded() {
+        MobTracker tracker = new MobTracker();
+        tracker.add(FIRST);
+        tracker.unload(FIRST);
+
+        assertTrue(tracker.reload(FIRST));
+        assertTrue(tracker.isLoaded(FIRST));
+        assertEquals(0, tracker.unloadedCount());
+    }
+
+    @Test
+    @DisplayName("only tracked, unloaded mobs can be reloaded")
+    void reloadIgnoresUnknownAndLoadedMobs() {
+        MobTracker tracker = new MobTracker();
+        tracker.add(FIRST);
+
+        assertFalse(tracker.reload(FIRST));
+        assertFalse(tracker.reload(SECOND));
+        assertFalse(tracker.contains(SECOND));
+    }
+
+    @Test
+    @DisplayName("removing an unloaded mob lets the round empty")
+    void removingUnloadedMobEmptiesTracker() {
+        MobTracker tracker = new MobTracker();
+        tracker.add(FIRST);
+        tracker.unload(FIRST);
+
+        assertTrue(tracker.remove(FIRST));
+        assertTrue(tracker.isEmpty());
+        assertEquals(0, tracker.unloadedCount());
+    }
+
+    @Test
+    @DisplayName("filtering never drops an unloaded mob")
+    void removeLoadedIfSkipsUnloaded() {
+        MobTracker tracker = new MobTracker();
+        tracker.add(FIRST);
+        tracker.add(SECOND);
+        tracker.unload(SECOND);
+
+        assertEquals(1, tracker.removeLoadedIf(id -> true));
+        assertEquals(List.of(SECOND), tracker.ids());
+    }
+}
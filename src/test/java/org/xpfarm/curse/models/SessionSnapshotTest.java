@@ -0,0 +1,61 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Exercises the journal line encoding of {@link SessionSnapshot}, which is what a session
+ * has to survive a restart through.
+ */
+class SessionSnapshotTest {
+
+    private static SessionSnapshot snapshot(List<UUID> mobs, Map<String, String> extras) {
+        return new SessionSnapshot("ZP25", UUID.randomUUID(), UUID.randomUUID(), 1_000, 500,
+            3, 17, true, 42_000, "world", 10.5, 64.0, -3.25, mobs, extras);
+    }
+
+    @Test
+    @DisplayName("a full snapshot round-trips through its journal line")
+    void roundTrips() {
+        SessionSnapshot original = snapshot(List.of(UUID.randomUUID(), UUID.randomUUID()),
+            Map.of("crater", "1.0,2.0,3.0"));
+
+        assertEquals(original, SessionSnapshot.decode(original.encode()));
+    }
+
+    @Test
+    @DisplayName("a session with no mobs and no extras round-trips")
+    void emptyCollectionsRoundTrip() {
+        SessionSnapshot original = snapshot(List.of(), Map.of());
+
+        SessionSnapshot decoded = SessionSnapshot.decode(original.encode());
+        assertEquals(original, decoded);
+        assertEquals(List.of(), decoded.mobs());
+    }
+
+    @Test
+    @DisplayName("malformed and unknown-version lines decode to null")
+    void malformedLinesAreRejected() {
+        String line = snapshot(List.of(), Map.of()).encode();
+
+        assertNull(SessionSnapshot.decode("garbage"));
+        assertNull(SessionSnapshot.decode(line.replaceFirst("v1", "v0")));
+        assertNull(SessionSnapshot.decode(line.replace("|3|", "|three|")));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Exercises {@link AliasTable}, the sampler behind reward chest loot: draws follow the
+ * weights and a seeded random gives the same draws every time.
+ */
+class AliasTableTest {
+
+    private static final int DRAWS = 200_000;
+
+    @Test
+    @DisplayName("draws follow the weights")
+    void followsWeights() {
+        AliasTable<String> table = new AliasTable<>(
+            List.of("common", "uncommon", "rare", "legendary"), List.of(60.0, 25.0, 12.0, 3.0));
+        Map<String, Integer> counts = draw(table, new Random(42));
+
+        assertEquals(0.60, share(counts, "common"), 0.01);
+        assertEquals(0.25, share(counts, "uncommon"), 0.01);
+        assertEquals(0.12, share(counts, "rare"), 0.01);
+        assertEquals(0.03, share(counts, "legendary"), 0.01);
+    }
+
+    @Test
+    @DisplayName("an outcome with zero weight is never drawn")
+    void zeroWeightNeverDrawn() {
+        AliasTable<String> table = new AliasTable<>(List.of("never", "always"), List.of(0.0, 1.0));
+
+        assertFalse(draw(table, new Random(7)).containsKey("never"));
+    }
+
+    @Test
+    @DisplayName("a single outcome is always drawn")
+    void singleOutcome() {
+        AliasTable<String> table = new AliasTable<>(List.of("only"), List.of(5.0));
+
+        assertEquals(DRAWS, draw(table, new Random(1)).get("only"));
+    }
+
+    @Test
+    @DisplayName("the same seed gives the same draws")
+    void seededIsRepeatable() {
+        AliasTable<Integer> table = new AliasTable<>(List.of(1, 2, 3, 4, 5), List.of(1.0, 2.0, 3.0, 4.0, 5.0));
+        Random first = new Random(99);
+        Random second = new Random(99);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(table.sample(first), table.sample(second));
+        }
+    }
+
+    @Test
+    @DisplayName("bad input is rejected")
+    void rejectsBadInput() {
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable<>(List.of(), List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable<>(List.of("a", "b"), List.of(1.0)));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable<>(List.of("a"), List.of(0.0)));
+        assertThrows(IllegalArgumentException.class, () -> new AliasTable<>(List.of("a"), List.of(-1.0)));
+    }
+
+    private static <T> Map<T, Integer> draw(AliasTable<T> table, Random random) {
+        Map<T, Integer> counts = new HashMap<>();
+        for (int i = 0; i < DRAWS; i++) {
+            counts.merge(table.sample(random), 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static double share(Map<String, Integer> counts, String outcome) {
+        return counts.getOrDefault(outcome, 0) / (double) DRAWS;
+    }
+}
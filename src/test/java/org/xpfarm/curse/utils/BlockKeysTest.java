@@ -0,0 +1,66 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Exercises {@link BlockKeys}, the position packing behind the reward chest registry:
+ * every position in a world round-trips and neighbours never collide.
+ */
+class BlockKeysTest {
+
+    @Test
+    @DisplayName("positions round-trip, including negatives and the world limits")
+    void roundTrips() {
+        int[][] positions = {
+            {0, 0, 0},
+            {1, 64, -1},
+            {-1, -64, 1},
+            {123456, 319, -654321},
+            {-30_000_000, -2048, 30_000_000},
+            {30_000_000, 2047, -30_000_000},
+        };
+
+        for (int[] position : positions) {
+            long key = BlockKeys.pack(position[0], position[1], position[2]);
+            assertEquals(position[0], BlockKeys.x(key));
+            assertEquals(position[1], BlockKeys.y(key));
+            assertEquals(position[2], BlockKeys.z(key));
+        }
+    }
+
+    @Test
+    @DisplayName("adjacent blocks get different keys")
+    void neighboursDiffer() {
+        long origin = BlockKeys.pack(10, 70, -10);
+
+        assertNotEquals(origin, BlockKeys.pack(11, 70, -10));
+        assertNotEquals(origin, BlockKeys.pack(10, 71, -10));
+        assertNotEquals(origin, BlockKeys.pack(10, 70, -9));
+        assertNotEquals(BlockKeys.pack(0, -1, 0), BlockKeys.pack(0, 0, -1));
+    }
+
+    @Test
+    @DisplayName("neighbouring chunks get different keys, including across zero")
+    void chunksDiffer() {
+        long origin = BlockKeys.chunk(0, 0);
+
+        assertNotEquals(origin, BlockKeys.chunk(-1, 0));
+        assertNotEquals(origin, BlockKeys.chunk(0, -1));
+        assertNotEquals(BlockKeys.chunk(-1, 0), BlockKeys.chunk(0, -1));
+        assertNotEquals(BlockKeys.chunk(1, -1), BlockKeys.chunk(-1, 1));
+        assertEquals(BlockKeys.chunk(-1_875_000, 1_875_000), BlockKeys.chunk(-1_875_000, 1_875_000));
+    }
+}
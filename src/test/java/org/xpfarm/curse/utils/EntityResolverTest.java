@@ -0,0 +1,123 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.xpfarm.curse.models.MobTracker;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Leak checks for {@link EntityResolver}: a player who disconnects and the mobs of a
+ * session that ends become collectible once the tick they were resolved in ends, even
+ * while a session still holds their UUIDs.
+ *
+ * <p>The server is stood in for by a map of handles. A handle still in the resolver's
+ * cache is strongly reachable and is never enqueued, so the checks before each clear are
+ * deterministic; collection after it is awaited with a bounded retry.
+ */
+class EntityResolverTest {
+
+    private static final int GC_ATTEMPTS = 50;
+    private static final long GC_WAIT_MILLIS = 100L;
+
+    // The stand-in server: handles it currently has loaded or online
+    private final Map<UUID, Entity> server = new HashMap<>();
+
+    @AfterEach
+    void clearResolver() {
+        EntityResolver.clear();
+    }
+
+    @Test
+    @DisplayName("a disconnected player is collectible once the tick ends")
+    void disconnectedPlayerIsCollectible() throws InterruptedException {
+        UUID playerId = UUID.randomUUID();
+        MobTracker session = new MobTracker();
+        session.add(playerId);
+        ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        WeakReference<Entity> player = resolveAndDisconnect(playerId, Player.class, queue);
+
+        System.gc();
+        assertNull(queue.poll(), "the cache holds the player until the tick ends");
+
+        EntityResolver.clear();
+
+        assertCollected(queue, player);
+        assertTrue(session.contains(playerId));
+    }
+
+    @Test
+    @DisplayName("an ended session's mobs are collectible once the tick ends")
+    void endedSessionMobsAreCollectible() throws InterruptedException {
+        ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        MobTracker session = new MobTracker();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        session.add(first);
+        session.add(second);
+        WeakReference<Entity> firstMob = resolveAndDisconnect(first, Entity.class, queue);
+        WeakReference<Entity> secondMob = resolveAndDisconnect(second, Entity.class, queue);
+        WeakReference<MobTracker> ended = new WeakReference<>(session, queue);
+        session = null;
+
+        EntityResolver.clear();
+
+        assertCollected(queue, firstMob, secondMob, ended);
+    }
+
+    /**
+     * Puts a stand-in handle on the server, resolves it in tick 1, then takes it off the
+     * server again, leaving the resolver's cache as the only thing holding it
+     */
+    private WeakReference<Entity> resolveAndDisconnect(UUID id, Class<? extends Entity> type, ReferenceQueue<Object> queue) {
+        server.put(id, standIn(type));
+        Entity resolved = EntityResolver.entity(id, 1, server::get);
+        assertSame(server.get(id), EntityResolver.entity(id, 1, key -> null));
+        server.remove(id);
+        return new WeakReference<>(resolved, queue);
+    }
+
+    private static void assertCollected(ReferenceQueue<Object> queue, Reference<?>... expected) throws InterruptedException {
+        int remaining = expected.length;
+        for (int attempt = 0; attempt < GC_ATTEMPTS && remaining > 0; attempt++) {
+            System.gc();
+            while (queue.remove(GC_WAIT_MILLIS) != null) {
+                remaining--;
+            }
+        }
+        assertEquals(0, remaining, remaining + " of " + expected.length + " handle(s) still reachable");
+    }
+
+    private static Entity standIn(Class<? extends Entity> type) {
+        return (Entity) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
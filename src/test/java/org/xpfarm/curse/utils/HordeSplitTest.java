@@ -0,0 +1,67 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises {@link HordeSplit}, the arithmetic behind horde waves: a fresh wave is capped
+ * at the horde size, and waves carried over by an interval never push past it.
+ */
+class HordeSplitTest {
+
+    @Test
+    @DisplayName("a fresh wave sends out at most maxAlive")
+    void capsFreshWave() {
+        assertEquals(8, HordeSplit.live(8, 12, 0));
+        assertEquals(12, HordeSplit.live(30, 12, 0));
+        assertEquals(0, HordeSplit.live(0, 12, 0));
+    }
+
+    @Test
+    @DisplayName("no limit sends out the whole wave")
+    void unlimited() {
+        assertEquals(30, HordeSplit.live(30, 0, 0));
+        assertEquals(30, HordeSplit.live(30, 0, 50));
+    }
+
+    @Test
+    @DisplayName("mobs carried over take room from the new wave")
+    void carriedOverTakeRoom() {
+        assertEquals(7, HordeSplit.live(10, 12, 5));
+        assertEquals(0, HordeSplit.live(10, 12, 12));
+        assertEquals(0, HordeSplit.live(10, 12, 20));
+    }
+
+    @Test
+    @DisplayName("missed intervals never grow the horde past maxAlive")
+    void repeatedCarryOverStaysCapped() {
+        int maxAlive = 12;
+        int alive = 0;
+        int reserve = 0;
+        for (int wave = 0; wave < 10; wave++) {
+            int size = 10 + wave * 5;
+            int live = HordeSplit.live(size, maxAlive, alive);
+            reserve += size - live;
+            alive += live;
+            assertTrue(alive <= maxAlive, "wave " + wave + " put " + alive + " mobs in play");
+            // A few die before the next interval runs out, replaced from the reserve if any
+            int replaced = Math.min(3, reserve);
+            reserve -= replaced;
+            alive -= 3 - replaced;
+        }
+        assertEquals(maxAlive, alive);
+        assertTrue(reserve > 0);
+    }
+}
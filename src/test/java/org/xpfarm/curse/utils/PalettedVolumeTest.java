@@ -0,0 +1,93 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Exercises {@link PalettedVolume}, the block storage behind arena snapshots: entries
+ * survive the palette growing, stay compact, and round-trip through their parts.
+ */
+class PalettedVolumeTest {
+
+    @Test
+    @DisplayName("every entry starts as the fill value")
+    void startsFilled() {
+        PalettedVolume<String> volume = new PalettedVolume<>(100, "air");
+
+        for (int i = 0; i < volume.size(); i++) {
+            assertEquals("air", volume.get(i));
+        }
+        assertEquals(List.of("air"), volume.palette());
+    }
+
+    @Test
+    @DisplayName("entries keep their values as the palette widens")
+    void survivesGrowth() {
+        int size = 21 * 21 * 21;
+        PalettedVolume<String> volume = new PalettedVolume<>(size, "air");
+
+        for (int i = 0; i < size; i++) {
+            volume.set(i, "block" + i % 300);
+        }
+
+        for (int i = 0; i < size; i++) {
+            assertEquals("block" + i % 300, volume.get(i));
+        }
+        assertEquals(9, volume.bits());
+    }
+
+    @Test
+    @DisplayName("a few distinct values take a few bits per entry")
+    void staysCompact() {
+        PalettedVolume<String> volume = new PalettedVolume<>(4096, "air");
+        volume.set(0, "stone");
+        volume.set(4095, "dirt");
+
+        assertEquals(2, volume.bits());
+        assertEquals(4096 / 32, volume.data().length);
+        assertEquals("stone", volume.get(0));
+        assertEquals("air", volume.get(2048));
+        assertEquals("dirt", volume.get(4095));
+    }
+
+    @Test
+    @DisplayName("a volume rebuilt from its parts reads the same")
+    void roundTrips() {
+        PalettedVolume<String> volume = new PalettedVolume<>(1000, "air");
+        for (int i = 0; i < volume.size(); i += 7) {
+            volume.set(i, i % 2 == 0 ? "stone" : "water");
+        }
+
+        PalettedVolume<String> copy = PalettedVolume.of(volume.size(), volume.palette(), volume.bits(), volume.data());
+
+        for (int i = 0; i < volume.size(); i++) {
+            assertEquals(volume.get(i), copy.get(i));
+        }
+        copy.set(3, "sand");
+        assertEquals("sand", copy.get(3));
+    }
+
+    @Test
+    @DisplayName("parts that do not describe a volume are rejected")
+    void rejectsBadParts() {
+        assertThrows(IllegalArgumentException.class, () -> PalettedVolume.of(10, List.of(), 1, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> PalettedVolume.of(10, List.of("a", "b", "c"), 1, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> PalettedVolume.of(10, List.of("a", "a"), 1, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> PalettedVolume.of(100, List.of("a", "b"), 1, new long[1]));
+        assertThrows(IllegalArgumentException.class, () -> PalettedVolume.of(10, List.of("a", "b", "c"), 2, new long[] {-1L}));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises {@link ParticleShape}, the precomputed offsets effects replay every frame:
+ * each template puts its points where its name says.
+ */
+class ParticleShapeTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    @DisplayName("a ring's points sit on its radius at the origin's height")
+    void ring() {
+        ParticleShape ring = ParticleShape.ring(2.0, 16);
+
+        assertEquals(16, ring.size());
+        for (int i = 0; i < ring.size(); i++) {
+            assertEquals(2.0, Math.hypot(ring.x(i), ring.z(i)), EPSILON);
+            assertEquals(0.0, ring.y(i), EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("a spiral rises from the origin to its full height")
+    void spiral() {
+        ParticleShape spiral = ParticleShape.spiral(1.5, 3.0, 2.0, 20);
+
+        assertEquals(0.0, spiral.y(0), EPSILON);
+        assertEquals(3.0, spiral.y(spiral.size() - 1), EPSILON);
+        for (int i = 1; i < spiral.size(); i++) {
+            assertTrue(spiral.y(i) > spiral.y(i - 1));
+            assertEquals(1.5, Math.hypot(spiral.x(i), spiral.z(i)), EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("a sphere's points sit on its surface and cover both poles")
+    void sphere() {
+        ParticleShape sphere = ParticleShape.sphere(4.0, 50);
+
+        double lowest = 0;
+        double highest = 0;
+        for (int i = 0; i < sphere.size(); i++) {
+            double distance = Math.sqrt(sphere.x(i) * sphere.x(i) + sphere.y(i) * sphere.y(i) + sphere.z(i) * sphere.z(i));
+            assertEquals(4.0, distance, EPSILON);
+            lowest = Math.min(lowest, sphere.y(i));
+            highest = Math.max(highest, sphere.y(i));
+        }
+        assertTrue(lowest < -3.5);
+        assertTrue(highest > 3.5);
+    }
+
+    @Test
+    @DisplayName("a column stays above the origin")
+    void column() {
+        ParticleShape column = ParticleShape.column(2.0, 5);
+
+        for (int i = 0; i < column.size(); i++) {
+            assertEquals(0.0, column.x(i), EPSILON);
+            assertEquals(0.0, column.z(i), EPSILON);
+            assertEquals(0.5 * i, column.y(i), EPSILON);
+        }
+    }
+
+    @Test
+    @DisplayName("a single point is the origin and an empty shape is rejected")
+    void edges() {
+        assertEquals(1, ParticleShape.POINT.size());
+        assertEquals(0.0, ParticleShape.column(5.0, 1).y(0), EPSILON);
+        assertThrows(IllegalArgumentException.class, () -> ParticleShape.ring(1.0, 0));
+    }
+}
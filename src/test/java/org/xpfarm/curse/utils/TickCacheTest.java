@@ -0,0 +1,100 @@
+/*
+ * The Curse - a dynamic survival challenge plugin with plague-style siege events.
+ * Copyright (C) 2026 Carmelo Santana
+ *
+ * This program is free software: you can redistribute it and/or modify it under the
+ * terms of the GNU Affero General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any later version.
+ * See the LICENSE file at the project root for the full license text.
+ */
+package org.xpfarm.curse.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exercises {@link TickCache}, the per-tick cache behind {@link EntityResolver}: lookups
+ * are shared within a tick and nothing resolved is kept reachable past it.
+ */
+class TickCacheTest {
+
+    @Test
+    @DisplayName("a key is loaded once per tick")
+    void loadsOncePerTick() {
+        TickCache<String, Object> cache = new TickCache<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        Object first = cache.get("mob", 1, key -> { loads.incrementAndGet(); return new Object(); });
+        Object second = cache.get("mob", 1, key -> { loads.incrementAndGet(); return new Object(); });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("a missing value is cached too")
+    void cachesNull() {
+        TickCache<String, Object> cache = new TickCache<>();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(cache.get("gone", 1, key -> { loads.incrementAndGet(); return null; }));
+        assertNull(cache.get("gone", 1, key -> { loads.incrementAndGet(); return null; }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("invalidating a key forces a fresh load in the same tick")
+    void invalidateReloads() {
+        TickCache<String, Object> cache = new TickCache<>();
+        Object first = cache.get("mob", 1, key -> new Object());
+
+        cache.invalidate("mob");
+
+        Object second = cache.get("mob", 1, key -> new Object());
+        assertTrue(first != second);
+    }
+
+    @Test
+    @DisplayName("a lookup in a later tick holds nothing from the earlier one")
+    void laterTickDropsEarlier() {
+        TickCache<String, Object> cache = new TickCache<>();
+        cache.get("player", 1, key -> new Object());
+        cache.get("mob", 1, key -> new Object());
+        assertEquals(2, cache.size());
+
+        cache.get("other", 2, key -> null);
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("invalidating a key stops holding its value")
+    void invalidateDrops() {
+        TickCache<String, Object> cache = new TickCache<>();
+        cache.get("player", 1, key -> new Object());
+        cache.get("mob", 1, key -> new Object());
+
+        cache.invalidate("mob");
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("clearing at the end of a tick holds nothing")
+    void clearDropsEverything() {
+        TickCache<String, Object> cache = new TickCache<>();
+        cache.get("player", 1, key -> new Object());
+        cache.get("gone", 1, key -> null);
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+    }
+}